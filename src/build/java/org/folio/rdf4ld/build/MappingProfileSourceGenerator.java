@@ -0,0 +1,299 @@
+package org.folio.rdf4ld.build;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Build-time generator turning the JSON mapping profile files into Java source that builds the same
+ * {@code ResourceMapping} trees without any runtime JSON parsing.
+ * It is run by the exec-maven-plugin with the JDK source launcher on the project classpath:
+ * {@code java -classpath <classpath> MappingProfileSourceGenerator.java <profile dir> <schema dir> <output dir>}.
+ * The properties of every model class are read from the JSON schema the model classes are generated from, so a
+ * profile file with a property unknown to the schema fails the build. As in the runtime binding, a single value is
+ * accepted where a list is expected.
+ */
+public final class MappingProfileSourceGenerator {
+
+  private static final String PACKAGE = "org.folio.rdf4ld.util";
+  private static final String CLASS_NAME = "Bibframe20Mappings";
+  private static final String MODEL_PACKAGE = "org.folio.rdf4ld.model";
+  private static final String DICTIONARY_PACKAGE = "org.folio.ld.dictionary";
+  private static final String ROOT_TYPE = "ResourceMapping";
+  private static final String INDENT = "  ";
+  private static final Pattern ENUM_CONSTANT = Pattern.compile("[A-Z][A-Z0-9_]*");
+  private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+  private MappingProfileSourceGenerator() {
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 3) {
+      throw new IllegalArgumentException(
+        "Usage: MappingProfileSourceGenerator <profile dir> <schema dir> <output sources dir>");
+    }
+    var profileDir = Path.of(args[0]);
+    var schema = Schema.read(Path.of(args[1]));
+    var outputFile = Path.of(args[2]).resolve(PACKAGE.replace('.', '/')).resolve(CLASS_NAME + ".java");
+    var mappings = new LinkedHashMap<String, JsonNode>();
+    for (var file : jsonFiles(profileDir)) {
+      var fileName = profileDir.relativize(file).toString().replace('\\', '/');
+      mappings.put(fileName, readTree(file));
+    }
+    Files.createDirectories(outputFile.getParent());
+    Files.writeString(outputFile, new Renderer(schema).render(mappings), StandardCharsets.UTF_8);
+  }
+
+  private static List<Path> jsonFiles(Path dir) throws IOException {
+    try (var paths = Files.walk(dir)) {
+      return paths.filter(p -> p.toString().endsWith(".json"))
+        .sorted()
+        .toList();
+    }
+  }
+
+  private static JsonNode readTree(Path file) throws IOException {
+    return JSON_MAPPER.readTree(Files.readString(file, StandardCharsets.UTF_8));
+  }
+
+  private static String capitalize(String value) {
+    return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+  }
+
+  private enum Kind {
+    OBJECT, OBJECT_LIST, STRING, STRING_LIST, BOOLEAN, ENUM, ENUM_LIST
+  }
+
+  private record Field(Kind kind, String type) {
+  }
+
+  /**
+   * Properties of the model classes, read from the JSON schema files. A schema file named {@code fooBar.json}
+   * describes the model class {@code FooBar}, and a schema with a {@code format} and no properties is a placeholder
+   * for the dictionary enum named by the format, as in the type mappings of the model generation.
+   */
+  private record Schema(Map<String, Map<String, Field>> types, Map<String, String> enums) {
+
+    private static Schema read(Path schemaDir) throws IOException {
+      var nodes = new TreeMap<String, JsonNode>();
+      for (var file : jsonFiles(schemaDir)) {
+        nodes.put(file.getFileName().toString(), readTree(file));
+      }
+      var enums = new TreeMap<String, String>();
+      var objects = new TreeMap<String, String>();
+      nodes.forEach((fileName, node) -> {
+        if (node.has("format") && !node.has("properties")) {
+          enums.put(fileName, node.get("format").asString());
+        } else {
+          objects.put(fileName, capitalize(fileName.substring(0, fileName.length() - ".json".length())));
+        }
+      });
+      var types = new TreeMap<String, Map<String, Field>>();
+      objects.forEach((fileName, type) -> {
+        var fields = new TreeMap<String, Field>();
+        nodes.get(fileName).path("properties").properties()
+          .forEach(p -> fields.put(p.getKey(), toField(p.getValue(), fileName + "/" + p.getKey(), enums, objects)));
+        types.put(type, fields);
+      });
+      return new Schema(types, Map.copyOf(enums));
+    }
+
+    private static Field toField(JsonNode property, String path, Map<String, String> enums,
+                                 Map<String, String> objects) {
+      if (property.has("$ref")) {
+        var ref = property.get("$ref").asString();
+        return enums.containsKey(ref) ? new Field(Kind.ENUM, enums.get(ref))
+          : new Field(Kind.OBJECT, resolve(ref, path, objects));
+      }
+      var type = property.path("type").asString();
+      return switch (type) {
+        case "boolean" -> new Field(Kind.BOOLEAN, null);
+        case "string" -> new Field(Kind.STRING, null);
+        case "array" -> {
+          var items = property.path("items");
+          if (items.has("$ref")) {
+            var ref = items.get("$ref").asString();
+            yield enums.containsKey(ref) ? new Field(Kind.ENUM_LIST, enums.get(ref))
+              : new Field(Kind.OBJECT_LIST, resolve(ref, path, objects));
+          }
+          if ("string".equals(items.path("type").asString())) {
+            yield new Field(Kind.STRING_LIST, null);
+          }
+          throw new IllegalStateException(path + ": unsupported array items " + items);
+        }
+        default -> throw new IllegalStateException(path + ": unsupported property type " + property);
+      };
+    }
+
+    private static String resolve(String ref, String path, Map<String, String> objects) {
+      var type = objects.get(ref);
+      if (type == null) {
+        throw new IllegalStateException(path + ": unknown schema reference " + ref);
+      }
+      return type;
+    }
+
+    private Stream<String> imports() {
+      return Stream.concat(
+        types.keySet().stream().map(type -> MODEL_PACKAGE + "." + type),
+        enums.values().stream().distinct().map(type -> DICTIONARY_PACKAGE + "." + type));
+    }
+  }
+
+  private record Renderer(Schema schema) {
+
+    private String render(Map<String, JsonNode> mappings) {
+      var sb = new StringBuilder();
+      sb.append("package ").append(PACKAGE).append(";\n\n");
+      Stream.concat(Stream.of("java.util.List", "java.util.Optional", "javax.annotation.processing.Generated"),
+          schema.imports())
+        .sorted()
+        .forEach(type -> sb.append("import ").append(type).append(";\n"));
+      sb.append("""
+
+        /**
+         * Bibframe 2.0 resource mappings, generated at build time from the mappingProfile/bibframe2.0 JSON files.
+         * Do not edit: change the JSON files instead.
+         */
+        @Generated("org.folio.rdf4ld.build.MappingProfileSourceGenerator")
+        @SuppressWarnings("all")
+        public final class %s {
+
+          public static final List<String> FILE_NAMES = List.of(
+        """.formatted(CLASS_NAME));
+      sb.append(String.join(",\n", mappings.keySet().stream().map(f -> INDENT.repeat(2) + literal(f)).toList()))
+        .append("\n").append(INDENT).append(");\n\n");
+      sb.append(INDENT).append("private ").append(CLASS_NAME).append("() {\n").append(INDENT).append("}\n\n");
+      sb.append(INDENT).append("/**\n").append(INDENT)
+        .append(" * Builds a new resource mapping defined by the given profile file, relative to the profile root.\n")
+        .append(INDENT).append(" */\n");
+      sb.append(INDENT).append("public static Optional<ResourceMapping> get(String fileName) {\n");
+      sb.append(INDENT.repeat(2)).append("return switch (fileName) {\n");
+      mappings.keySet().forEach(f -> sb.append(INDENT.repeat(3)).append("case ").append(literal(f))
+        .append(" -> Optional.of(").append(methodName(f)).append("());\n"));
+      sb.append(INDENT.repeat(3)).append("default -> Optional.empty();\n");
+      sb.append(INDENT.repeat(2)).append("};\n").append(INDENT).append("}\n");
+      mappings.forEach((f, json) -> {
+        sb.append("\n").append(INDENT).append("private static ResourceMapping ").append(methodName(f))
+          .append("() {\n");
+        sb.append(INDENT.repeat(2)).append("return ");
+        renderObject(sb, ROOT_TYPE, json, 2, f);
+        sb.append(";\n").append(INDENT).append("}\n");
+      });
+      sb.append("\n}\n");
+      return sb.toString();
+    }
+
+    private void renderObject(StringBuilder sb, String type, JsonNode json, int depth, String path) {
+      if (!json.isObject()) {
+        throw new IllegalStateException(path + ": object expected for " + type + " but got " + json);
+      }
+      var fields = schema.types().get(type);
+      sb.append("new ").append(type).append("()");
+      json.properties().forEach(property -> {
+        var key = property.getKey();
+        var value = property.getValue();
+        var fieldPath = path + "/" + key;
+        var field = fields.get(key);
+        if (field == null) {
+          throw new IllegalStateException(fieldPath + ": " + key + " is not a property of " + type
+            + ", known properties are " + fields.keySet());
+        }
+        if (value.isNull()) {
+          return;
+        }
+        switch (field.kind()) {
+          case OBJECT -> {
+            newLine(sb, depth + 1).append('.').append(key).append('(');
+            renderObject(sb, field.type(), value, depth + 1, fieldPath);
+            sb.append(')');
+          }
+          case BOOLEAN -> newLine(sb, depth + 1).append('.').append(key).append('(')
+            .append(requireBoolean(value, fieldPath)).append(')');
+          case STRING -> newLine(sb, depth + 1).append('.').append(key).append('(')
+            .append(literal(requireString(value, fieldPath))).append(')');
+          case ENUM -> newLine(sb, depth + 1).append('.').append(key).append('(')
+            .append(enumConstant(field.type(), value, fieldPath)).append(')');
+          default -> asList(value).forEach(item -> {
+            newLine(sb, depth + 1).append(".add").append(capitalize(key)).append("Item(");
+            switch (field.kind()) {
+              case OBJECT_LIST -> renderObject(sb, field.type(), item, depth + 1, fieldPath);
+              case STRING_LIST -> sb.append(literal(requireString(item, fieldPath)));
+              default -> sb.append(enumConstant(field.type(), item, fieldPath));
+            }
+            sb.append(')');
+          });
+        }
+      });
+    }
+  }
+
+  private static StringBuilder newLine(StringBuilder sb, int depth) {
+    return sb.append('\n').append(INDENT.repeat(depth));
+  }
+
+  private static List<JsonNode> asList(JsonNode value) {
+    if (!value.isArray()) {
+      return List.of(value);
+    }
+    var items = new ArrayList<JsonNode>();
+    value.forEach(items::add);
+    return items;
+  }
+
+  private static boolean requireBoolean(JsonNode value, String path) {
+    if (!value.isBoolean()) {
+      throw new IllegalStateException(path + ": boolean expected but got " + value);
+    }
+    return value.booleanValue();
+  }
+
+  private static String requireString(JsonNode value, String path) {
+    if (!value.isString()) {
+      throw new IllegalStateException(path + ": string expected but got " + value);
+    }
+    return value.asString();
+  }
+
+  private static String enumConstant(String enumType, JsonNode value, String path) {
+    var name = requireString(value, path);
+    if (!ENUM_CONSTANT.matcher(name).matches()) {
+      throw new IllegalStateException(path + ": invalid " + enumType + " constant " + name);
+    }
+    return enumType + "." + name;
+  }
+
+  private static String methodName(String fileName) {
+    var parts = fileName.substring(0, fileName.length() - ".json".length()).split("[/_.\\-]+");
+    var sb = new StringBuilder(parts[0]);
+    for (int i = 1; i < parts.length; i++) {
+      sb.append(capitalize(parts[i]));
+    }
+    return sb.toString();
+  }
+
+  private static String literal(String value) {
+    var sb = new StringBuilder("\"");
+    for (var c : value.toCharArray()) {
+      switch (c) {
+        case '"' -> sb.append("\\\"");
+        case '\\' -> sb.append("\\\\");
+        case '\n' -> sb.append("\\n");
+        case '\r' -> sb.append("\\r");
+        case '\t' -> sb.append("\\t");
+        default -> sb.append(c < 0x20 ? "\\u%04x".formatted((int) c) : String.valueOf(c));
+      }
+    }
+    return sb.append('"').toString();
+  }
+}
@@ -0,0 +1,44 @@
+package org.folio.rdf4ld.mapper;
+
+import static org.folio.rdf4ld.test.TestUtil.instanceWorkPairs;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.folio.ld.dictionary.model.Resource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * How the removal of duplicated top resources scales with the number of top resources. Half of the top resources
+ * are Instances, each linked to one top Work either as an outgoing or an incoming edge.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterDuplicatesBenchmark {
+  @Param({"10", "1000", "100000"})
+  private int topResources;
+  private Set<Resource> all;
+
+  @Setup
+  public void setUp() {
+    all = instanceWorkPairs(topResources / 2);
+  }
+
+  @Benchmark
+  public Set<Resource> filterDuplicates() {
+    return Rdf4LdMapperImpl.filterDuplicates(all);
+  }
+}
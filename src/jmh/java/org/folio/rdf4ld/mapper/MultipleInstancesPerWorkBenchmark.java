@@ -0,0 +1,56 @@
+package org.folio.rdf4ld.mapper;
+
+import static org.folio.rdf4ld.test.TestUtil.instancesOfOneWork;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.rdf4j.model.Model;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.rdf4ld.test.SpringTestConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Cost of mapping a graph where many Instances share a single Work, which is mapped once per run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MultipleInstancesPerWorkBenchmark {
+  @Param({"10", "200"})
+  private int instances;
+  private AnnotationConfigApplicationContext context;
+  private Rdf4LdMapper rdf4LdMapper;
+  private Model model;
+
+  @Setup
+  public void setUp() {
+    context = new AnnotationConfigApplicationContext(SpringTestConfig.class);
+    rdf4LdMapper = context.getBean(Rdf4LdMapper.class);
+    model = instancesOfOneWork(instances);
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Set<Resource> mapInstancesOfOneWork() {
+    return rdf4LdMapper.mapBibframe2RdfToLd(model);
+  }
+}
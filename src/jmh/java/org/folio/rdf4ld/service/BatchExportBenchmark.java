@@ -0,0 +1,80 @@
+package org.folio.rdf4ld.service;
+
+import static org.folio.ld.dictionary.PredicateDictionary.CREATOR;
+import static org.folio.ld.dictionary.PredicateDictionary.INSTANTIATES;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.BOOKS;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.ID_LCNAF;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.PERSON;
+import static org.folio.rdf4ld.test.MonographUtil.createAgent;
+import static org.folio.rdf4ld.test.MonographUtil.createInstance;
+import static org.folio.rdf4ld.test.MonographUtil.createWork;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.rdf4ld.test.SpringTestConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Throughput of exporting many Instances of one Work with a single writer, in N-Triples, which is streamed, and in
+ * Turtle, which is written once all the Instances are mapped.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchExportBenchmark {
+  @Param({"100", "10000"})
+  private int instances;
+  @Param({"N-Triples", "Turtle"})
+  private String format;
+  private AnnotationConfigApplicationContext context;
+  private Rdf4LdService rdf4LdService;
+  private RDFFormat rdfFormat;
+  private List<Resource> batch;
+
+  @Setup
+  public void setUp() {
+    context = new AnnotationConfigApplicationContext(SpringTestConfig.class);
+    rdf4LdService = context.getBean(Rdf4LdService.class);
+    rdfFormat = RDFFormat.NTRIPLES.getName().equals(format) ? RDFFormat.NTRIPLES : RDFFormat.TURTLE;
+    var work = createWork(Map.of(), BOOKS);
+    var creator = createAgent("n2021004098", ID_LCNAF, true, List.of(PERSON), "Creator Agent");
+    work.addOutgoingEdge(new ResourceEdge(work, creator, CREATOR));
+    batch = new ArrayList<>();
+    for (var i = 0; i < instances; i++) {
+      var instance = createInstance(null);
+      instance.addOutgoingEdge(new ResourceEdge(instance, work, INSTANTIATES));
+      batch.add(instance);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public void exportBatch() {
+    rdf4LdService.mapLdToBibframe2Rdf(batch, rdfFormat, OutputStream.nullOutputStream());
+  }
+}
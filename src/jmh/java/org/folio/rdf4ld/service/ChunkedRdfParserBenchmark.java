@@ -0,0 +1,70 @@
+package org.folio.rdf4ld.service;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parse time of N-Triples files of growing size, read by a single {@link Rio#parse} call and by the chunked parser
+ * running on all available cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChunkedRdfParserBenchmark {
+  @Param({"10000", "100000", "1000000"})
+  private int resources;
+  private Path file;
+  private ChunkedRdfParser chunkedRdfParser;
+
+  @Setup
+  public void setUp() throws IOException {
+    file = Files.createTempFile("instances", ".nt");
+    try (var writer = new PrintWriter(Files.newBufferedWriter(file))) {
+      for (var i = 0; i < resources; i++) {
+        writer.println("<http://ex.org/i" + i + "> <http://www.w3.org/1999/02/22-rdf-syntax-ns#type> "
+          + "<http://id.loc.gov/ontologies/bibframe/Instance> .");
+        writer.println("<http://ex.org/i" + i + "> <http://id.loc.gov/ontologies/bibframe/title> _:t" + i + " .");
+        writer.println("_:t" + i + " <http://id.loc.gov/ontologies/bibframe/mainTitle> \"Title " + i + "\" .");
+      }
+    }
+    chunkedRdfParser = ChunkedRdfParser.ofAvailableProcessors();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public Model singleParser() throws IOException {
+    try (var input = Files.newInputStream(file)) {
+      return Rio.parse(input, "", RDFFormat.NTRIPLES);
+    }
+  }
+
+  @Benchmark
+  public Model chunkedParser() {
+    return chunkedRdfParser.parse(file, RDFFormat.NTRIPLES);
+  }
+}
@@ -0,0 +1,60 @@
+package org.folio.rdf4ld.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to read flat expanded JSON-LD fixtures with the general JSON-LD parser and with {@link ExpandedJsonLdReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExpandedJsonLdReaderBenchmark {
+  @Param({
+    "/rdf/multiple_top_resources.json",
+    "/rdf/instance/instance_titles.json",
+    "/rdf/instance/instance_provisions.json"
+  })
+  private String fixture;
+  private final ExpandedJsonLdReader reader = new ExpandedJsonLdReader();
+  private byte[] input;
+
+  @Setup
+  public void setUp() throws IOException {
+    try (var stream = getClass().getResourceAsStream(fixture)) {
+      input = stream.readAllBytes();
+    }
+    if (reader.read(input).isEmpty()) {
+      throw new IllegalStateException(fixture + " is not flat expanded JSON-LD");
+    }
+  }
+
+  @Benchmark
+  public Model generalParser() throws IOException {
+    return Rio.parse(new ByteArrayInputStream(input), "", RDFFormat.JSONLD);
+  }
+
+  @Benchmark
+  public Optional<Model> expandedReader() {
+    return reader.read(input);
+  }
+}
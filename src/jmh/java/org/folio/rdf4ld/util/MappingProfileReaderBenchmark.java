@@ -0,0 +1,65 @@
+package org.folio.rdf4ld.util;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.rdf4ld.mapper.Rdf4LdMapper;
+import org.folio.rdf4ld.test.SpringTestConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Per-record cost of mapping an exported Instance with the shared Bibframe 2.0 profile, and with the profile
+ * built again for the record as it was before the profile was cached.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingProfileReaderBenchmark {
+  private AnnotationConfigApplicationContext context;
+  private MappingProfileReader mappingProfileReader;
+  private Rdf4LdMapper rdf4LdMapper;
+  private Model record;
+
+  @Setup
+  public void setUp() throws IOException {
+    context = new AnnotationConfigApplicationContext(SpringTestConfig.class);
+    mappingProfileReader = context.getBean(MappingProfileReader.class);
+    rdf4LdMapper = context.getBean(Rdf4LdMapper.class);
+    try (var input = getClass().getResourceAsStream("/rdf/instance/exported.json")) {
+      record = Rio.parse(input, "", RDFFormat.JSONLD);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Set<Resource> mapRecordWithSharedProfile() {
+    return rdf4LdMapper.mapRdfToLd(record, mappingProfileReader.getBibframe20Profile());
+  }
+
+  @Benchmark
+  public Set<Resource> mapRecordWithProfileBuiltPerRecord() {
+    return rdf4LdMapper.mapRdfToLd(record, mappingProfileReader.reloadBibframe20Profile());
+  }
+}
@@ -0,0 +1,33 @@
+package org.folio.rdf4ld.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the optional asynchronous facade, see {@link org.folio.rdf4ld.service.async.Rdf4LdAsyncService}.
+ *
+ * @param enabled        creates the facade and its executor when {@code true}
+ * @param concurrency    maximum number of conversions running at once, the number of available processors when not
+ *                       positive
+ * @param queueCapacity  maximum number of conversions waiting for a thread
+ * @param virtualThreads runs the conversions on virtual threads instead of platform ones
+ * @param overflowPolicy what happens to a conversion submitted while the queue is full
+ */
+@ConfigurationProperties(prefix = "rdf4ld.async")
+public record AsyncMappingProperties(boolean enabled,
+                                     @DefaultValue("0") int concurrency,
+                                     @DefaultValue("100") int queueCapacity,
+                                     boolean virtualThreads,
+                                     @DefaultValue("REJECT") OverflowPolicy overflowPolicy) {
+
+  public enum OverflowPolicy {
+    /**
+     * The returned future fails with a {@link java.util.concurrent.RejectedExecutionException}.
+     */
+    REJECT,
+    /**
+     * The caller is blocked until the queue has room.
+     */
+    BLOCK
+  }
+}
@@ -0,0 +1,15 @@
+package org.folio.rdf4ld.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the optional fingerprint cache, see {@link org.folio.rdf4ld.service.fingerprint.FingerprintCache}.
+ *
+ * @param enabled     keeps the ids of the hashed resources across mapping runs when {@code true}
+ * @param maximumSize maximum number of ids kept, the least recently used ones are evicted first
+ */
+@ConfigurationProperties(prefix = "rdf4ld.fingerprint-cache")
+public record FingerprintCacheProperties(boolean enabled,
+                                         @DefaultValue("10000") long maximumSize) {
+}
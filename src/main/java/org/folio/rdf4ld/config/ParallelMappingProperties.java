@@ -0,0 +1,16 @@
+package org.folio.rdf4ld.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the optional parallel mapping of top resources, see
+ * {@link org.folio.rdf4ld.mapper.Rdf4LdMapper#mapRdfToLd}.
+ *
+ * @param enabled     maps the top subjects of a model on a dedicated fork-join pool when {@code true}
+ * @param parallelism number of threads of the pool, the number of available processors when not positive
+ */
+@ConfigurationProperties(prefix = "rdf4ld.parallel-mapping")
+public record ParallelMappingProperties(boolean enabled,
+                                        @DefaultValue("0") int parallelism) {
+}
@@ -6,12 +6,25 @@ import java.util.function.Supplier;
 import lombok.extern.log4j.Log4j2;
 import org.folio.ld.dictionary.ResourceTypeDictionary;
 import org.folio.ld.dictionary.label.LabelGeneratorService;
+import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.mapper.Rdf4LdMapperImpl;
+import org.folio.rdf4ld.mapper.plan.MappingPlanProvider;
+import org.folio.rdf4ld.service.Rdf4LdServiceImpl;
+import org.folio.rdf4ld.service.fingerprint.FingerprintCacheImpl;
+import org.folio.rdf4ld.service.warmup.WarmUpRunner;
+import org.folio.rdf4ld.util.MappingProfileReader;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @Log4j2
 @Configuration
+@ImportRuntimeHints(Rdf4ldRuntimeHints.class)
+@EnableConfigurationProperties({WarmUpProperties.class, FingerprintCacheProperties.class,
+  ParallelMappingProperties.class, AsyncMappingProperties.class})
 public class Rdf4ldBeanConfig {
 
   @Bean
@@ -34,4 +47,21 @@ public class Rdf4ldBeanConfig {
     return new LabelGeneratorService();
   }
 
+  /**
+   * The warm-up maps with a fingerprint cache of its own, so that the synthetic resources stay out of the shared
+   * cache and its stats. Top resources are mapped sequentially, which compiles the same mapper units without another
+   * pool.
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "rdf4ld.warm-up", name = "enabled", havingValue = "true")
+  public WarmUpRunner warmUpRunner(MappingProfileReader mappingProfileReader,
+                                   MappingPlanProvider mappingPlanProvider,
+                                   FingerprintHashService hashService,
+                                   FingerprintCacheProperties fingerprintCacheProperties,
+                                   WarmUpProperties warmUpProperties) {
+    var warmUpMapper = new Rdf4LdMapperImpl(mappingProfileReader, mappingPlanProvider, hashService,
+      new FingerprintCacheImpl(fingerprintCacheProperties), new ParallelMappingProperties(false, 0));
+    return new WarmUpRunner(new Rdf4LdServiceImpl(warmUpMapper), warmUpProperties);
+  }
+
 }
@@ -0,0 +1,38 @@
+package org.folio.rdf4ld.config;
+
+import static org.springframework.aot.hint.MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS;
+
+import java.util.List;
+import org.folio.rdf4ld.model.BfResourceDef;
+import org.folio.rdf4ld.model.LdResourceDef;
+import org.folio.rdf4ld.model.MappingProfile;
+import org.folio.rdf4ld.model.PropertyMapping;
+import org.folio.rdf4ld.model.ResourceInternalMapping;
+import org.folio.rdf4ld.model.ResourceMapping;
+import org.folio.rdf4ld.service.warmup.WarmUpRunner;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Runtime hints needed to run rdf4ld in a GraalVM native image.
+ * The default mapping profile is compiled into the library, so only the mapping profile model (bound by Jackson
+ * when a custom profile is supplied), the warm-up records and the JSON-P providers used by the rdf4j JSON-LD parser
+ * are registered.
+ */
+public class Rdf4ldRuntimeHints implements RuntimeHintsRegistrar {
+  private static final List<String> JSON_PROVIDERS = List.of(
+    "org.eclipse.parsson.JsonProviderImpl",
+    "org.glassfish.json.JsonProviderImpl"
+  );
+  private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    bindingRegistrar.registerReflectionHints(hints.reflection(), MappingProfile.class, ResourceMapping.class,
+      ResourceInternalMapping.class, PropertyMapping.class, LdResourceDef.class, BfResourceDef.class);
+    hints.resources().registerPattern(WarmUpRunner.WARM_UP_RECORDS);
+    JSON_PROVIDERS.forEach(provider ->
+      hints.reflection().registerTypeIfPresent(classLoader, provider, INVOKE_PUBLIC_CONSTRUCTORS));
+  }
+}
@@ -0,0 +1,20 @@
+package org.folio.rdf4ld.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the optional startup warm-up, see {@link org.folio.rdf4ld.service.warmup.WarmUpRunner}.
+ *
+ * @param enabled    runs the warm-up once the application is ready when {@code true}
+ * @param iterations maximum number of round trips of the bundled record
+ * @param timeBudget maximum time spent on the warm-up, whichever limit is reached first stops it
+ * @param blocking   runs the warm-up on the thread publishing the ready event instead of a background thread
+ */
+@ConfigurationProperties(prefix = "rdf4ld.warm-up")
+public record WarmUpProperties(boolean enabled,
+                               @DefaultValue("1000") int iterations,
+                               @DefaultValue("30s") Duration timeBudget,
+                               boolean blocking) {
+}
@@ -3,14 +3,35 @@ package org.folio.rdf4ld.mapper;
 import java.util.Set;
 import org.eclipse.rdf4j.model.Model;
 import org.folio.ld.dictionary.model.Resource;
+import org.folio.rdf4ld.mapper.context.ResourcePool;
 import org.folio.rdf4ld.model.MappingProfile;
 
+/**
+ * Maps RDF models to Linked Data resources and back.
+ * Implementations are thread-safe: any number of conversions may run concurrently, including conversions sharing
+ * the same {@link MappingProfile}, provided that the profile is not modified while it is in use.
+ * The Bibframe 2.0 profile is frozen for that purpose, and custom profiles can be frozen with
+ * {@link org.folio.rdf4ld.util.MappingProfileUtil#freeze}. Models and resources passed in are not shared between
+ * calls and must not be modified by the caller during the conversion.
+ */
 public interface Rdf4LdMapper {
 
+  /**
+   * Maps the model with the Bibframe 2.0 profile. An RDF node referenced by several parents is mapped once,
+   * and sub-resources of the same id are merged, so the returned resources may share the same sub-resource
+   * instances.
+   */
   Set<Resource> mapBibframe2RdfToLd(Model model);
 
+  /**
+   * Maps the model with the Bibframe 2.0 profile, sharing the sub-resources already met in the batch of the pool.
+   */
+  Set<Resource> mapBibframe2RdfToLd(Model model, ResourcePool pool);
+
   Set<Resource> mapRdfToLd(Model model, MappingProfile mappingProfile);
 
+  Set<Resource> mapRdfToLd(Model model, MappingProfile mappingProfile, ResourcePool pool);
+
   Model mapLdToBibframe2Rdf(Resource resource);
 
   Model mapLdToRdf(Resource resource, MappingProfile mappingProfile);
@@ -1,79 +1,188 @@
 package org.folio.rdf4ld.mapper;
 
-import static java.lang.Boolean.TRUE;
 import static java.util.Objects.nonNull;
 import static org.folio.ld.dictionary.ResourceTypeDictionary.INSTANCE;
 import static org.folio.ld.dictionary.ResourceTypeDictionary.WORK;
-import static org.folio.rdf4ld.util.RdfUtil.selectSubjectsByTypes;
 
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
-import org.folio.ld.dictionary.ResourceTypeDictionary;
 import org.folio.ld.dictionary.model.Resource;
-import org.folio.rdf4ld.mapper.unit.RdfMapperUnitProvider;
+import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.config.ParallelMappingProperties;
+import org.folio.rdf4ld.mapper.context.MappingContext;
+import org.folio.rdf4ld.mapper.context.ResourcePool;
+import org.folio.rdf4ld.mapper.plan.MappingPlanProvider;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.folio.rdf4ld.model.MappingProfile;
-import org.folio.rdf4ld.model.ResourceMapping;
+import org.folio.rdf4ld.service.fingerprint.FingerprintCache;
 import org.folio.rdf4ld.util.MappingProfileReader;
 import org.springframework.stereotype.Component;
 
 @Log4j2
 @Component
-@RequiredArgsConstructor
 public class Rdf4LdMapperImpl implements Rdf4LdMapper {
   private final MappingProfileReader mappingProfileReader;
-  private final RdfMapperUnitProvider rdfMapperUnitProvider;
+  private final MappingPlanProvider mappingPlanProvider;
+  private final FingerprintHashService hashService;
+  private final FingerprintCache fingerprintCache;
+  private final ForkJoinPool mappingPool;
+
+  public Rdf4LdMapperImpl(MappingProfileReader mappingProfileReader,
+                          MappingPlanProvider mappingPlanProvider,
+                          FingerprintHashService hashService,
+                          FingerprintCache fingerprintCache,
+                          ParallelMappingProperties parallelMappingProperties) {
+    this.mappingProfileReader = mappingProfileReader;
+    this.mappingPlanProvider = mappingPlanProvider;
+    this.hashService = hashService;
+    this.fingerprintCache = fingerprintCache;
+    this.mappingPool = parallelMappingProperties.enabled() ? createPool(parallelMappingProperties) : null;
+  }
+
+  private static ForkJoinPool createPool(ParallelMappingProperties properties) {
+    var parallelism = properties.parallelism() > 0
+      ? properties.parallelism()
+      : Runtime.getRuntime().availableProcessors();
+    log.info("Top resources are mapped in parallel, parallelism: {}", parallelism);
+    return new ForkJoinPool(parallelism);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (nonNull(mappingPool)) {
+      mappingPool.shutdown();
+    }
+  }
 
   @Override
   public Set<Resource> mapBibframe2RdfToLd(Model model) {
-    return mapRdfToLd(model, mappingProfileReader.getBibframe20Profile());
+    return mapBibframe2RdfToLd(model, new ResourcePool());
+  }
+
+  @Override
+  public Set<Resource> mapBibframe2RdfToLd(Model model, ResourcePool pool) {
+    return mapRdfToLd(model, mappingProfileReader.getBibframe20Profile(), pool);
   }
 
   @Override
   public Set<Resource> mapRdfToLd(Model model, MappingProfile mappingProfile) {
-    var mapped = mappingProfile.getTopResourceMappings().stream()
-      .flatMap(tm -> mapSingleRdfTopResourceToLd(model, tm))
-      .collect(Collectors.toSet());
-    return filterDuplicates(mapped);
+    return mapRdfToLd(model, mappingProfile, new ResourcePool());
   }
 
-  private Set<Resource> filterDuplicates(Set<Resource> all) {
-    var instances = all.stream()
-      .filter(r -> r.isOfType(ResourceTypeDictionary.INSTANCE))
-      .collect(Collectors.toSet());
-    var noDuplicatedWorks = all.stream()
-      .filter(r -> r.isNotOfType(WORK) || workIsNotLinkedToInstances(r, instances))
-      .collect(Collectors.toSet());
-    return noDuplicatedWorks.stream()
-      .filter(r -> r.isNotOfType(INSTANCE) || instanceIsNotReferencedByWork(r, noDuplicatedWorks))
-      .collect(Collectors.toSet());
+  @Override
+  public Set<Resource> mapRdfToLd(Model model, MappingProfile mappingProfile, ResourcePool pool) {
+    var mapped = nonNull(mappingPool)
+      ? mapInParallel(model, mappingProfile)
+      : mapSequentially(model, mappingProfile);
+    pool.canonicalize(mapped);
+    return filterDuplicates(new HashSet<>(mapped));
   }
 
-  private boolean workIsNotLinkedToInstances(Resource work, Set<Resource> instances) {
-    return instances.stream()
-      .flatMap(i -> i.getOutgoingEdges().stream())
-      .noneMatch(edge -> edge.getTarget().equals(work));
+  private List<Resource> mapSequentially(Model model, MappingProfile mappingProfile) {
+    var context = MappingContext.of(model);
+    var mapped = mappingPlanProvider.getTopPlans(mappingProfile).stream()
+      .flatMap(tm -> mapSingleRdfTopResourceToLd(context, tm))
+      .toList();
+    context.assignIds(mapped, hashService, fingerprintCache);
+    return mapped;
   }
 
-  private boolean instanceIsNotReferencedByWork(Resource instance, Set<Resource> noDuplicatedWorks) {
-    return noDuplicatedWorks.stream()
+  /**
+   * Maps the top subjects on the pool, which must not modify the model. Top subjects linked to each other, like the
+   * Instances of a Work and the Work, are mapped by one task in one context, so that the resources they share are
+   * mapped once as in sequential mode. Sub-resources are not shared between the tasks until the pool of the call
+   * merges those of the same id.
+   */
+  private List<Resource> mapInParallel(Model model, MappingProfile mappingProfile) {
+    var shared = MappingContext.of(model.unmodifiable());
+    var topSubjects = mappingPlanProvider.getTopPlans(mappingProfile).stream()
+      .flatMap(tm -> shared.selectSubjects(tm.getBfResource().getTypeSet()).map(s -> new TopSubject(tm, s)))
+      .toList();
+    var groups = groupLinked(topSubjects, model);
+    return mappingPool.submit(() -> groups.parallelStream()
+        .flatMap(group -> mapTopSubjects(shared.fork(), group).stream())
+        .toList())
+      .join();
+  }
+
+  private Collection<List<TopSubject>> groupLinked(List<TopSubject> topSubjects, Model model) {
+    var roots = new HashMap<Value, Value>();
+    topSubjects.forEach(ts -> roots.put(ts.subject(), ts.subject()));
+    topSubjects.forEach(ts -> model.getStatements(ts.subject(), null, null).forEach(st -> {
+      if (roots.containsKey(st.getObject())) {
+        roots.put(findRoot(roots, st.getObject()), findRoot(roots, ts.subject()));
+      }
+    }));
+    var groups = new LinkedHashMap<Value, List<TopSubject>>();
+    topSubjects.forEach(ts -> groups.computeIfAbsent(findRoot(roots, ts.subject()), r -> new ArrayList<>()).add(ts));
+    return groups.values();
+  }
+
+  private Value findRoot(Map<Value, Value> roots, Value node) {
+    var root = node;
+    while (!roots.get(root).equals(root)) {
+      root = roots.get(root);
+    }
+    return root;
+  }
+
+  private List<Resource> mapTopSubjects(MappingContext context, List<TopSubject> group) {
+    return group.stream()
+      .map(topSubject -> mapTopSubject(context, topSubject))
+      .flatMap(Optional::stream)
+      .toList();
+  }
+
+  private Optional<Resource> mapTopSubject(MappingContext context, TopSubject topSubject) {
+    var plan = topSubject.plan();
+    var mapped = plan.getMapperUnit().mapToLd(context, topSubject.subject(), plan, null);
+    mapped.ifPresent(resource -> context.assignIds(List.of(resource), hashService, fingerprintCache));
+    return mapped;
+  }
+
+  /**
+   * Drops the top Works already mapped as an edge of a top Instance, then the top Instances already mapped as
+   * an incoming edge of a remaining top Work. Edge ends are indexed by resource id in one pass over the edges,
+   * so the cost is linear in the number of top resources and their edges.
+   */
+  static Set<Resource> filterDuplicates(Set<Resource> all) {
+    var worksLinkedToInstances = all.stream()
+      .filter(r -> r.isOfType(INSTANCE))
+      .flatMap(instance -> instance.getOutgoingEdges().stream())
+      .map(edge -> edge.getTarget().getId())
+      .collect(Collectors.toSet());
+    var noDuplicatedWorks = all.stream()
+      .filter(r -> r.isNotOfType(WORK) || !worksLinkedToInstances.contains(r.getId()))
+      .collect(Collectors.toSet());
+    var instancesReferencedByWorks = noDuplicatedWorks.stream()
       .filter(r -> r.isOfType(WORK))
       .flatMap(work -> work.getIncomingEdges().stream())
-      .noneMatch(edge -> edge.getSource().equals(instance));
+      .map(edge -> edge.getSource().getId())
+      .collect(Collectors.toSet());
+    return noDuplicatedWorks.stream()
+      .filter(r -> r.isNotOfType(INSTANCE) || !instancesReferencedByWorks.contains(r.getId()))
+      .collect(Collectors.toSet());
   }
 
-  private Stream<Resource> mapSingleRdfTopResourceToLd(Model model, ResourceMapping topMapping) {
-    var ldResourceDef = topMapping.getLdResourceDef();
-    var mapper = rdfMapperUnitProvider.getMapper(ldResourceDef.getTypeSet(), ldResourceDef.getPredicate());
-    var bfTypes = topMapping.getBfResourceDef().getTypeSet();
-    return selectSubjectsByTypes(model, bfTypes)
-      .map(resource -> mapper.mapToLd(model, resource, topMapping, null))
+  private Stream<Resource> mapSingleRdfTopResourceToLd(MappingContext context, ResourceMappingPlan topPlan) {
+    var mapper = topPlan.getMapperUnit();
+    return context.selectSubjects(topPlan.getBfResource().getTypeSet())
+      .map(resource -> mapper.mapToLd(context, resource, topPlan, null))
       .filter(Optional::isPresent)
       .map(Optional::get);
   }
@@ -86,20 +195,13 @@ public class Rdf4LdMapperImpl implements Rdf4LdMapper {
   @Override
   public Model mapLdToRdf(Resource resource, MappingProfile mappingProfile) {
     var modelBuilder = new ModelBuilder();
-    mappingProfile.getTopResourceMappings().stream()
-      .filter(tm -> nonNull(tm.getLdResourceDef()))
-      .filter(tm -> {
-        var expectedTypes = new HashSet<>(tm.getLdResourceDef().getTypeSet());
-        return TRUE.equals(tm.getBfResourceDef().getPartialTypesMatch())
-          ? resource.getTypes().containsAll(expectedTypes)
-          : resource.getTypes().equals(expectedTypes);
-      })
-      .forEach(tm -> {
-        var ldResourceDef = tm.getLdResourceDef();
-        var mapper = rdfMapperUnitProvider.getMapper(ldResourceDef.getTypeSet(), ldResourceDef.getPredicate());
-        mapper.mapToBibframe(resource, modelBuilder, tm, null);
-      });
+    mappingPlanProvider.getTopPlans(mappingProfile).stream()
+      .filter(ResourceMappingPlan::hasLdResourceDef)
+      .filter(tm -> tm.matchesTopResource(resource))
+      .forEach(tm -> tm.getMapperUnit().mapToBibframe(resource, modelBuilder, tm, null));
     return modelBuilder.build();
   }
 
+  private record TopSubject(ResourceMappingPlan plan, org.eclipse.rdf4j.model.Resource subject) {
+  }
 }
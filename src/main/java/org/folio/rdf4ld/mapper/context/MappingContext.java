@@ -0,0 +1,266 @@
+package org.folio.rdf4ld.mapper.context;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.MOCKED_RESOURCE;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.mapper.plan.BfResourcePlan;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
+import org.folio.rdf4ld.service.fingerprint.FingerprintCache;
+
+/**
+ * State of a single RDF to Linked Data mapping run: the model being mapped, the indexes built over it,
+ * the nodes already mapped, the loops being followed and the resources waiting for their ids.
+ * A context is created for every {@link org.folio.rdf4ld.mapper.Rdf4LdMapper} call and is confined to the thread
+ * running it, so it is not thread-safe.
+ */
+public final class MappingContext {
+  private final Model model;
+  private final RdfTypeIndex typeIndex;
+  private final Map<BfResourcePlan, Optional<RdfTypes>> planTypes = new IdentityHashMap<>();
+  private final Map<MappedNode, Optional<org.folio.ld.dictionary.model.Resource>> mappedNodes = new HashMap<>();
+  private final Set<MappedNode> loopVisits = new HashSet<>();
+  private final Map<org.folio.ld.dictionary.model.Resource, Long> pendingIds = new IdentityHashMap<>();
+  private long nextPendingId = Long.MIN_VALUE;
+
+  private MappingContext(Model model, RdfTypeIndex typeIndex) {
+    this.model = model;
+    this.typeIndex = typeIndex;
+  }
+
+  public static MappingContext of(Model model) {
+    return new MappingContext(model, RdfTypeIndex.of(model));
+  }
+
+  /**
+   * Creates a context for another thread mapping the same model. The model and its index are shared, so the model
+   * must not be modified while any of the contexts is in use, the rest of the state is not.
+   */
+  public MappingContext fork() {
+    return new MappingContext(model, typeIndex);
+  }
+
+  public Model getModel() {
+    return model;
+  }
+
+  /**
+   * Selects the subjects having all the given types, or all the subjects of the model if no type is given.
+   */
+  public Stream<Resource> selectSubjects(Collection<String> bfTypeSet) {
+    return typeIndex.selectSubjects(bfTypeSet);
+  }
+
+  /**
+   * Returns the {@code rdf:type}s of the node, computed once per run.
+   */
+  public RdfTypes getTypes(Resource node) {
+    return typeIndex.getTypes(node);
+  }
+
+  /**
+   * Checks the types of the node against the type set of the Bibframe resource definition.
+   */
+  public boolean matchesTypes(Resource node, BfResourcePlan bfResource) {
+    if (bfResource.isAnyTypeMatches()) {
+      return true;
+    }
+    var required = planTypes.computeIfAbsent(bfResource,
+      plan -> Optional.ofNullable(typeIndex.toTypes(plan.getTypeSet())));
+    if (required.isEmpty()) {
+      return false;
+    }
+    var types = getTypes(node);
+    return bfResource.isPartialTypesMatch() ? types.containsAll(required.get()) : types.equals(required.get());
+  }
+
+  /**
+   * Returns the resource the node was mapped to by the plan earlier in this run, or maps it and keeps the result
+   * for the next parents referencing the same node. The returned resource is then shared by all those parents.
+   * Nothing is reused or kept while a loop is being followed, as such a result lacks the part of the loop that has
+   * been cut. Results containing mocked LCCN resources are not kept either, as those are replaced in place later.
+   */
+  public Optional<org.folio.ld.dictionary.model.Resource> mapOnce(
+    Resource node,
+    ResourceMappingPlan plan,
+    Supplier<Optional<org.folio.ld.dictionary.model.Resource>> mapper) {
+    if (!loopVisits.isEmpty()) {
+      return mapper.get();
+    }
+    var key = new MappedNode(node, plan);
+    var mapped = mappedNodes.get(key);
+    if (isNull(mapped)) {
+      mapped = mapper.get();
+      if (mapped.map(MappingContext::isShareable).orElse(true)) {
+        mappedNodes.put(key, mapped);
+      }
+    }
+    return mapped;
+  }
+
+  /**
+   * Registers the node as being mapped by the looped plan.
+   *
+   * @return false if the node is already being mapped by the plan higher up in the call chain
+   */
+  public boolean enterLoop(Resource node, ResourceMappingPlan plan) {
+    return loopVisits.add(new MappedNode(node, plan));
+  }
+
+  public void leaveLoop(Resource node, ResourceMappingPlan plan) {
+    loopVisits.remove(new MappedNode(node, plan));
+  }
+
+  /**
+   * Marks the resource built in this run as waiting for its id, which is assigned by {@link #assignIds} once the
+   * whole graph is built. Until then the resource has a provisional id, unique in the run. A resource given another
+   * id in the meantime, like a mocked LCCN resource, keeps that id.
+   */
+  public org.folio.ld.dictionary.model.Resource markDirty(org.folio.ld.dictionary.model.Resource resource) {
+    var pendingId = nextPendingId++;
+    resource.setId(pendingId);
+    pendingIds.put(resource, pendingId);
+    return resource;
+  }
+
+  /**
+   * Assigns the ids of the dirty resources reachable from the given ones, hashing each of them exactly once.
+   * Resources are hashed bottom-up, after the resources mapped under them. Edges to the resources still waiting for
+   * their ids, which are the ones higher up being hashed, are left out of the hash: such an edge is the one added
+   * back to the source of an incoming edge after it was mapped, and the provisional id of its end is local to the
+   * run. Edge sets are refilled afterwards, as their ends got their ids after being added.
+   */
+  public void assignIds(Collection<org.folio.ld.dictionary.model.Resource> resources,
+                        FingerprintHashService hashService) {
+    assignIds(resources, hashService::hash, hashService);
+  }
+
+  /**
+   * Assigns the ids like {@link #assignIds(Collection, FingerprintHashService)}, looking them up in the cache first
+   * for the resources whose edge ends all have final ids.
+   */
+  public void assignIds(Collection<org.folio.ld.dictionary.model.Resource> resources,
+                        FingerprintHashService hashService,
+                        FingerprintCache cache) {
+    assignIds(resources, resource -> cache.get(resource, hashService::hash), hashService);
+  }
+
+  private void assignIds(Collection<org.folio.ld.dictionary.model.Resource> resources,
+                         Function<org.folio.ld.dictionary.model.Resource, Long> cachedHasher,
+                         FingerprintHashService hashService) {
+    var visited = Collections.newSetFromMap(new IdentityHashMap<org.folio.ld.dictionary.model.Resource, Boolean>());
+    resources.forEach(resource -> assignId(resource, cachedHasher, hashService, visited));
+    visited.forEach(resource -> {
+      refill(resource.getOutgoingEdges());
+      refill(resource.getIncomingEdges());
+    });
+    pendingIds.clear();
+  }
+
+  private void assignId(org.folio.ld.dictionary.model.Resource resource,
+                        Function<org.folio.ld.dictionary.model.Resource, Long> cachedHasher,
+                        FingerprintHashService hashService,
+                        Set<org.folio.ld.dictionary.model.Resource> visited) {
+    if (!visited.add(resource)) {
+      return;
+    }
+    resource.getOutgoingEdges().forEach(edge -> assignId(edge.getTarget(), cachedHasher, hashService, visited));
+    resource.getIncomingEdges().forEach(edge -> assignId(edge.getSource(), cachedHasher, hashService, visited));
+    if (isPending(resource)) {
+      resource.setId(hashWithoutPendingEnds(resource, cachedHasher, hashService));
+    }
+  }
+
+  private Long hashWithoutPendingEnds(org.folio.ld.dictionary.model.Resource resource,
+                                      Function<org.folio.ld.dictionary.model.Resource, Long> cachedHasher,
+                                      FingerprintHashService hashService) {
+    if (!hasPendingEnds(resource)) {
+      return hasFinalEdgeEnds(resource) ? cachedHasher.apply(resource) : hashService.hash(resource);
+    }
+    var outgoing = new ArrayList<>(resource.getOutgoingEdges());
+    var incoming = new ArrayList<>(resource.getIncomingEdges());
+    replace(resource.getOutgoingEdges(), outgoing, edge -> !isPending(edge.getTarget()));
+    replace(resource.getIncomingEdges(), incoming, edge -> !isPending(edge.getSource()));
+    try {
+      return hasFinalEdgeEnds(resource) ? cachedHasher.apply(resource) : hashService.hash(resource);
+    } finally {
+      replace(resource.getOutgoingEdges(), outgoing, edge -> true);
+      replace(resource.getIncomingEdges(), incoming, edge -> true);
+    }
+  }
+
+  private boolean hasPendingEnds(org.folio.ld.dictionary.model.Resource resource) {
+    return resource.getOutgoingEdges().stream().anyMatch(edge -> isPending(edge.getTarget()))
+      || resource.getIncomingEdges().stream().anyMatch(edge -> isPending(edge.getSource()));
+  }
+
+  private boolean isPending(org.folio.ld.dictionary.model.Resource resource) {
+    var pendingId = pendingIds.get(resource);
+    return nonNull(pendingId) && pendingId.equals(resource.getId());
+  }
+
+  /**
+   * Edge ends still waiting for their ids, on a loop, or mocked, do not stand for their content.
+   */
+  private boolean hasFinalEdgeEnds(org.folio.ld.dictionary.model.Resource resource) {
+    return Stream.concat(
+        resource.getOutgoingEdges().stream().map(ResourceEdge::getTarget),
+        resource.getIncomingEdges().stream().map(ResourceEdge::getSource))
+      .allMatch(end -> nonNull(end.getId()) && !isPending(end) && !end.isOfType(MOCKED_RESOURCE));
+  }
+
+  private static void replace(Set<ResourceEdge> edges, List<ResourceEdge> content, Predicate<ResourceEdge> kept) {
+    edges.clear();
+    content.stream().filter(kept).forEach(edges::add);
+  }
+
+  private static void refill(Set<ResourceEdge> edges) {
+    if (!edges.isEmpty()) {
+      var copy = new ArrayList<>(edges);
+      edges.clear();
+      edges.addAll(copy);
+    }
+  }
+
+  private static boolean isShareable(org.folio.ld.dictionary.model.Resource resource) {
+    var visited = Collections.newSetFromMap(new IdentityHashMap<org.folio.ld.dictionary.model.Resource, Boolean>());
+    var pending = new ArrayDeque<org.folio.ld.dictionary.model.Resource>();
+    pending.push(resource);
+    while (!pending.isEmpty()) {
+      var current = pending.pop();
+      if (!visited.add(current)) {
+        continue;
+      }
+      if (current.isOfType(MOCKED_RESOURCE)) {
+        return false;
+      }
+      current.getOutgoingEdges().stream().map(ResourceEdge::getTarget).forEach(pending::push);
+    }
+    return true;
+  }
+
+  /**
+   * RDF node mapped by a plan. Plans are compared by identity.
+   */
+  private record MappedNode(Resource node, ResourceMappingPlan plan) {
+  }
+}
@@ -0,0 +1,114 @@
+package org.folio.rdf4ld.mapper.context;
+
+import static java.util.Comparator.comparingInt;
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+
+/**
+ * Subjects of a model indexed by their {@code rdf:type}s, and the {@code rdf:type}s of every subject.
+ * The index is built with a single pass over the {@code rdf:type} statements and is meant to be reused
+ * by the whole mapping run. Type IRIs are interned, so the types of a node are held as a bit set over
+ * the interned IRIs. The index does not follow later changes of the model.
+ */
+public final class RdfTypeIndex {
+  private final Model model;
+  private final Map<String, Integer> typeIds;
+  private final List<String> typeNames;
+  private final List<Set<Resource>> subjectsByType;
+  private final Map<Resource, RdfTypes> typesBySubject;
+  private final RdfTypes noTypes;
+
+  private RdfTypeIndex(Model model) {
+    this.model = model;
+    this.typeIds = new HashMap<>();
+    this.typeNames = new ArrayList<>();
+    this.subjectsByType = new ArrayList<>();
+    this.noTypes = new RdfTypes(new BitSet(), this);
+    var bitsBySubject = new LinkedHashMap<Resource, BitSet>();
+    model.getStatements(null, RDF.TYPE, null).forEach(st -> {
+      var typeId = intern(st.getObject().stringValue());
+      subjectsByType.get(typeId).add(st.getSubject());
+      bitsBySubject.computeIfAbsent(st.getSubject(), s -> new BitSet()).set(typeId);
+    });
+    this.typesBySubject = new HashMap<>(bitsBySubject.size());
+    bitsBySubject.forEach((subject, bits) -> typesBySubject.put(subject, new RdfTypes(bits, this)));
+  }
+
+  public static RdfTypeIndex of(Model model) {
+    return new RdfTypeIndex(model);
+  }
+
+  /**
+   * Selects the subjects having all the given types, or all the subjects of the model if no type is given.
+   */
+  public Stream<Resource> selectSubjects(Collection<String> bfTypeSet) {
+    if (bfTypeSet.isEmpty()) {
+      return model.subjects().stream();
+    }
+    var candidates = bfTypeSet.stream()
+      .map(typeIds::get)
+      .map(typeId -> isNull(typeId) ? Set.<Resource>of() : subjectsByType.get(typeId))
+      .sorted(comparingInt(Set::size))
+      .toList();
+    var smallest = candidates.getFirst();
+    var others = candidates.subList(1, candidates.size());
+    return smallest.stream()
+      .filter(subject -> others.stream().allMatch(subjects -> subjects.contains(subject)));
+  }
+
+  /**
+   * Returns the types of the node, empty if the node has no {@code rdf:type}.
+   */
+  public RdfTypes getTypes(Resource node) {
+    return typesBySubject.getOrDefault(node, noTypes);
+  }
+
+  /**
+   * Converts the given type IRIs into the compact form of this index.
+   *
+   * @return types of the given IRIs or {@code null} if any of them is not a type of any node of the model
+   */
+  public RdfTypes toTypes(Collection<String> typeSet) {
+    var bits = new BitSet();
+    for (var type : typeSet) {
+      var typeId = typeIds.get(type);
+      if (isNull(typeId)) {
+        return null;
+      }
+      bits.set(typeId);
+    }
+    return new RdfTypes(bits, this);
+  }
+
+  Integer getTypeId(String type) {
+    return typeIds.get(type);
+  }
+
+  String getTypeName(int typeId) {
+    return typeNames.get(typeId);
+  }
+
+  private int intern(String type) {
+    var typeId = typeIds.get(type);
+    if (isNull(typeId)) {
+      typeId = typeNames.size();
+      typeIds.put(type, typeId);
+      typeNames.add(type);
+      subjectsByType.add(new LinkedHashSet<>());
+    }
+    return typeId;
+  }
+}
@@ -0,0 +1,61 @@
+package org.folio.rdf4ld.mapper.context;
+
+import static java.util.Objects.nonNull;
+
+import java.util.BitSet;
+import java.util.stream.Stream;
+
+/**
+ * The {@code rdf:type}s of a node as a bit set over the type IRIs interned by an {@link RdfTypeIndex}.
+ * Only types coming from the same index can be compared.
+ */
+public final class RdfTypes {
+  private final BitSet bits;
+  private final RdfTypeIndex index;
+
+  RdfTypes(BitSet bits, RdfTypeIndex index) {
+    this.bits = bits;
+    this.index = index;
+  }
+
+  public int size() {
+    return bits.cardinality();
+  }
+
+  public boolean isEmpty() {
+    return bits.isEmpty();
+  }
+
+  public boolean contains(String type) {
+    var typeId = index.getTypeId(type);
+    return nonNull(typeId) && bits.get(typeId);
+  }
+
+  public boolean containsAll(RdfTypes other) {
+    for (var i = other.bits.nextSetBit(0); i >= 0; i = other.bits.nextSetBit(i + 1)) {
+      if (!bits.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public Stream<String> stream() {
+    return bits.stream().mapToObj(index::getTypeName);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof RdfTypes other && bits.equals(other.bits);
+  }
+
+  @Override
+  public int hashCode() {
+    return bits.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return stream().toList().toString();
+  }
+}
@@ -0,0 +1,69 @@
+package org.folio.rdf4ld.mapper.context;
+
+import static java.util.Objects.nonNull;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.MOCKED_RESOURCE;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.ld.dictionary.model.ResourceEdge;
+
+/**
+ * Canonical resources of a batch of conversions, by id. Mapped resources having the id of a resource met earlier
+ * in the batch are replaced by it, so recurring agents, places or statuses are held once and shared by all their
+ * parents. Ids are fingerprints, so resources of the same id have the same content.
+ * Only resources without incoming edges or mocked LCCN resources in their subgraph are pooled, as those are not
+ * fully described by their id or are replaced in place later. A pool may be shared by concurrent conversions,
+ * and the resources it returns must not be modified while it is in use.
+ */
+public final class ResourcePool {
+  private final Map<Long, Resource> resources = new ConcurrentHashMap<>();
+
+  public int size() {
+    return resources.size();
+  }
+
+  /**
+   * Replaces the edge targets of the given resources, and of the resources below them, by their canonical
+   * instances. The given resources themselves are kept.
+   */
+  public void canonicalize(Collection<Resource> roots) {
+    var poolable = new IdentityHashMap<Resource, Boolean>();
+    roots.forEach(root -> visit(root, poolable));
+  }
+
+  private boolean visit(Resource resource, Map<Resource, Boolean> poolable) {
+    var known = poolable.get(resource);
+    if (nonNull(known)) {
+      return known;
+    }
+    poolable.put(resource, false);
+    var edges = resource.getOutgoingEdges();
+    var canonicalEdges = new ArrayList<ResourceEdge>(edges.size());
+    var changed = false;
+    var allTargetsPoolable = true;
+    for (var edge : edges) {
+      var target = edge.getTarget();
+      var targetPoolable = visit(target, poolable);
+      allTargetsPoolable &= targetPoolable;
+      var canonical = targetPoolable ? resources.computeIfAbsent(target.getId(), id -> target) : target;
+      if (canonical != target) {
+        changed = true;
+        canonicalEdges.add(new ResourceEdge(resource, canonical, edge.getPredicate()));
+      } else {
+        canonicalEdges.add(edge);
+      }
+    }
+    if (changed) {
+      edges.clear();
+      edges.addAll(canonicalEdges);
+    }
+    var result = allTargetsPoolable && nonNull(resource.getId()) && resource.getIncomingEdges().isEmpty()
+      && !resource.isOfType(MOCKED_RESOURCE);
+    poolable.put(resource, result);
+    return result;
+  }
+}
@@ -3,15 +3,14 @@ package org.folio.rdf4ld.mapper.core;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.folio.ld.dictionary.model.Resource;
 import org.folio.ld.dictionary.model.ResourceEdge;
-import org.folio.rdf4ld.model.ResourceInternalMapping;
-import org.folio.rdf4ld.model.ResourceMapping;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 
 public interface CoreLd2RdfMapper {
 
-  void mapProperties(Resource resource, ModelBuilder modelBuilder, ResourceMapping mapping);
+  void mapProperties(Resource resource, ModelBuilder modelBuilder, ResourceMappingPlan plan);
 
   void mapOutgoingEdge(ModelBuilder modelBuilder,
                        ResourceEdge edge,
-                       ResourceInternalMapping resourceMapping);
+                       ResourceMappingPlan parentPlan);
 
 }
@@ -1,83 +1,67 @@
 package org.folio.rdf4ld.mapper.core;
 
 import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
 import static java.util.Optional.ofNullable;
 import static org.eclipse.rdf4j.model.util.Values.iri;
 import static org.folio.rdf4ld.util.RdfUtil.linkResources;
 
 import java.util.EnumMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.LongFunction;
 import lombok.RequiredArgsConstructor;
+import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.eclipse.rdf4j.model.util.Values;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.folio.ld.dictionary.PropertyDictionary;
 import org.folio.ld.dictionary.model.Resource;
 import org.folio.ld.dictionary.model.ResourceEdge;
-import org.folio.rdf4ld.mapper.unit.RdfMapperUnitProvider;
-import org.folio.rdf4ld.model.PropertyMapping;
-import org.folio.rdf4ld.model.ResourceInternalMapping;
-import org.folio.rdf4ld.model.ResourceMapping;
-import org.folio.rdf4ld.util.RdfUtil;
+import org.folio.rdf4ld.mapper.plan.PropertyMappingPlan;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class CoreLd2RdfMapperImpl implements CoreLd2RdfMapper {
   private final LongFunction<String> resourceUrlProvider;
-  private final RdfMapperUnitProvider rdfMapperUnitProvider;
 
   @Override
-  public void mapProperties(Resource resource, ModelBuilder modelBuilder, ResourceMapping mapping) {
+  public void mapProperties(Resource resource, ModelBuilder modelBuilder, ResourceMappingPlan plan) {
     final var idMap = new EnumMap<PropertyDictionary, Integer>(PropertyDictionary.class);
-    ofNullable(mapping.getResourceMapping())
-      .ifPresent(irm ->
-        irm.getProperties().stream()
-          .filter(p -> !Objects.equals(RdfUtil.IRI, p.getBfProperty()))
-          .forEach(p -> {
-            if (isNull(p.getEdgeParentBfDef())) {
-              mapDirectProperty(modelBuilder, p.getBfProperty(), resource, p.getLdProperty());
-            } else {
-              mapPropertyToAnotherResource(modelBuilder, resource, p, idMap);
-            }
-          })
-      );
+    plan.getProperties().stream()
+      .filter(p -> !p.isSubjectIri())
+      .forEach(p -> {
+        if (isNull(p.getEdgeParent())) {
+          mapDirectProperty(modelBuilder, p.getBfPropertyIri(), resource, p.getLdKey());
+        } else {
+          mapPropertyToAnotherResource(modelBuilder, resource, p, idMap);
+        }
+      });
   }
 
   @Override
   public void mapOutgoingEdge(ModelBuilder modelBuilder,
                               ResourceEdge edge,
-                              ResourceInternalMapping mapping) {
-    ofNullable(mapping)
-      .ifPresent(m -> m.getOutgoingEdges().stream()
-        .filter(oem -> nonNull(oem.getLdResourceDef()))
-        .filter(oem -> (oem.getLdResourceDef().getTypeSet().isEmpty()
-          || edge.getTarget().getTypes().containsAll(oem.getLdResourceDef().getTypeSet()))
-          && edge.getPredicate().equals(oem.getLdResourceDef().getPredicate()))
-        .forEach(oem -> {
-          var ldResourceDef = oem.getLdResourceDef();
-          var mapper = rdfMapperUnitProvider.getMapper(ldResourceDef.getTypeSet(), ldResourceDef.getPredicate());
-          mapper.mapToBibframe(edge.getTarget(), modelBuilder, oem, edge.getSource());
-        })
-      );
+                              ResourceMappingPlan parentPlan) {
+    parentPlan.getOutgoingEdges().stream()
+      .filter(ResourceMappingPlan::hasLdResourceDef)
+      .filter(oem -> oem.matchesEdge(edge))
+      .forEach(oem -> oem.getMapperUnit().mapToBibframe(edge.getTarget(), modelBuilder, oem, edge.getSource()));
   }
 
   private String generateId(Resource resource,
-                            org.folio.rdf4ld.model.PropertyMapping p,
+                            PropertyMappingPlan p,
                             Map<PropertyDictionary, Integer> idMap) {
     idMap.put(p.getLdProperty(), idMap.getOrDefault(p.getLdProperty(), 0) + 1);
     return p.getLdProperty().name() + "_" + idMap.get(p.getLdProperty()) + "_" + resource.getId();
   }
 
   private void mapDirectProperty(ModelBuilder modelBuilder,
-                                 String predicate,
+                                 IRI predicate,
                                  Resource resource,
-                                 PropertyDictionary property) {
+                                 String property) {
     ofNullable(resource.getDoc())
-      .map(d -> d.get(property.getValue()))
+      .map(d -> d.get(property))
       .ifPresent(propertyArray ->
         propertyArray.forEach(node -> modelBuilder.add(predicate, node.asString()))
       );
@@ -85,18 +69,18 @@ public class CoreLd2RdfMapperImpl implements CoreLd2RdfMapper {
 
   private void mapPropertyToAnotherResource(ModelBuilder modelBuilder,
                                             Resource resource,
-                                            PropertyMapping pm,
+                                            PropertyMappingPlan pm,
                                             Map<PropertyDictionary, Integer> idMap) {
     ofNullable(resource.getDoc())
-      .map(doc -> doc.get(pm.getLdProperty().getValue()))
+      .map(doc -> doc.get(pm.getLdKey()))
       .ifPresent(propertyArray -> {
-        var predicate = pm.getEdgeParentBfDef().getPredicate();
+        var predicate = pm.getEdgeParent().getPredicate();
         propertyArray.forEach(node -> {
           var id = generateId(resource, pm, idMap);
           var blankNode = Values.bnode(id);
           modelBuilder.subject(blankNode);
-          pm.getEdgeParentBfDef().getTypeSet().forEach(type -> modelBuilder.add(RDF.TYPE, iri(type)));
-          modelBuilder.add(pm.getBfProperty(), node.asString());
+          pm.getEdgeParent().getTypeIris().forEach(type -> modelBuilder.add(RDF.TYPE, type));
+          modelBuilder.add(pm.getBfPropertyIri(), node.asString());
           linkResources(iri(resourceUrlProvider.apply(resource.getId())), blankNode, predicate, modelBuilder);
         });
       });
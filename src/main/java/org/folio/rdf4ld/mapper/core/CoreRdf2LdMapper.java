@@ -4,26 +4,28 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import org.eclipse.rdf4j.model.Model;
 import org.folio.ld.dictionary.model.Resource;
 import org.folio.ld.dictionary.model.ResourceEdge;
-import org.folio.rdf4ld.model.PropertyMapping;
-import org.folio.rdf4ld.model.ResourceMapping;
+import org.folio.rdf4ld.mapper.context.MappingContext;
+import org.folio.rdf4ld.mapper.plan.PropertyMappingPlan;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import tools.jackson.databind.JsonNode;
 
 public interface CoreRdf2LdMapper {
 
-  JsonNode mapDoc(org.eclipse.rdf4j.model.Resource resource, Model model, Collection<PropertyMapping> propertyMappings);
+  JsonNode mapDoc(org.eclipse.rdf4j.model.Resource resource,
+                  MappingContext context,
+                  Collection<PropertyMappingPlan> propertyPlans);
 
   JsonNode toJson(Map<String, List<String>> map);
 
-  Set<ResourceEdge> mapOutgoingEdges(Collection<ResourceMapping> edgeMappings,
-                                     Model model,
+  Set<ResourceEdge> mapOutgoingEdges(Collection<ResourceMappingPlan> edgePlans,
+                                     MappingContext context,
                                      Resource edgeOwner,
                                      org.eclipse.rdf4j.model.Resource rdfParent);
 
-  Set<ResourceEdge> mapIncomingEdges(Collection<ResourceMapping> edgeMappings,
-                                     Model model,
+  Set<ResourceEdge> mapIncomingEdges(Collection<ResourceMappingPlan> edgePlans,
+                                     MappingContext context,
                                      Resource edgeOwner,
                                      org.eclipse.rdf4j.model.Resource rdfParent);
 
@@ -1,113 +1,96 @@
 package org.folio.rdf4ld.mapper.core;
 
-import static java.lang.Boolean.TRUE;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toSet;
-import static org.folio.rdf4ld.util.JsonUtil.getJsonMapper;
-import static org.folio.rdf4ld.util.RdfUtil.IRI;
-import static org.folio.rdf4ld.util.RdfUtil.getAllTypes;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
-import org.eclipse.rdf4j.model.util.Values;
 import org.folio.ld.dictionary.model.Resource;
 import org.folio.ld.dictionary.model.ResourceEdge;
-import org.folio.rdf4ld.mapper.unit.RdfMapperUnitProvider;
-import org.folio.rdf4ld.model.BfResourceDef;
-import org.folio.rdf4ld.model.PropertyMapping;
-import org.folio.rdf4ld.model.ResourceMapping;
+import org.folio.rdf4ld.mapper.context.MappingContext;
+import org.folio.rdf4ld.mapper.plan.BfResourcePlan;
+import org.folio.rdf4ld.mapper.plan.PropertyMappingPlan;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.springframework.stereotype.Component;
 import tools.jackson.databind.JsonNode;
-import tools.jackson.databind.json.JsonMapper;
-import tools.jackson.databind.node.NullNode;
+import tools.jackson.databind.node.JsonNodeFactory;
 
+@Log4j2
 @Component
-@RequiredArgsConstructor
 public class CoreRdf2LdMapperImpl implements CoreRdf2LdMapper {
-  private final RdfMapperUnitProvider rdfMapperUnitProvider;
-  private final JsonMapper jsonMapper = getJsonMapper();
 
   @Override
-  public JsonNode mapDoc(org.eclipse.rdf4j.model.Resource resource, Model model,
-                         Collection<PropertyMapping> propertyMappings) {
-    var doc = new HashMap<String, List<String>>();
-    propertyMappings
+  public JsonNode mapDoc(org.eclipse.rdf4j.model.Resource resource, MappingContext context,
+                         Collection<PropertyMappingPlan> propertyPlans) {
+    var doc = new DocBuilder();
+    propertyPlans
       .forEach(pm -> {
-        if (isNull(pm.getEdgeParentBfDef())) {
-          getDirectProperty(resource, model, pm, doc);
+        if (isNull(pm.getEdgeParent())) {
+          getDirectProperty(resource, context.getModel(), pm, doc);
         } else {
-          selectLinkedResources(model, pm.getEdgeParentBfDef(), resource)
-            .forEach(r -> getDirectProperty(r, model, pm, doc));
+          selectLinkedResources(context, pm.getEdgeParent(), resource)
+            .forEach(r -> getDirectProperty(r, context.getModel(), pm, doc));
         }
       });
-    return doc.isEmpty() ? null : toJson(doc);
+    return doc.build();
   }
 
   private void getDirectProperty(org.eclipse.rdf4j.model.Resource resource,
                                  Model model,
-                                 PropertyMapping pm,
-                                 Map<String, List<String>> doc) {
-    if (IRI.equals(pm.getBfProperty())) {
-      addProperty(pm, doc, resource.stringValue());
+                                 PropertyMappingPlan pm,
+                                 DocBuilder doc) {
+    if (pm.isSubjectIri()) {
+      doc.add(pm.getLdKey(), resource.stringValue());
     } else {
-      model.getStatements(resource, Values.iri(pm.getBfProperty()), null)
-        .forEach(st -> addProperty(pm, doc, st.getObject().stringValue()));
-    }
-  }
-
-  private void addProperty(PropertyMapping pm, Map<String, List<String>> doc, String value) {
-    var props = doc.computeIfAbsent(pm.getLdProperty().getValue(), str -> new ArrayList<>());
-    if (!props.contains(value)) {
-      props.add(value);
+      model.getStatements(resource, pm.getBfPropertyIri(), null)
+        .forEach(st -> doc.add(pm.getLdKey(), st.getObject().stringValue()));
     }
   }
 
   @Override
   public JsonNode toJson(Map<String, List<String>> map) {
-    var node = jsonMapper.convertValue(map, JsonNode.class);
-    return !(node instanceof NullNode) ? node : jsonMapper.createObjectNode();
+    var node = JsonNodeFactory.instance.objectNode();
+    if (nonNull(map)) {
+      map.forEach((key, values) -> {
+        var array = node.putArray(key);
+        values.forEach(array::add);
+      });
+    }
+    return node;
   }
 
   @Override
-  public Set<ResourceEdge> mapOutgoingEdges(Collection<ResourceMapping> edgeMappings,
-                                            Model model,
+  public Set<ResourceEdge> mapOutgoingEdges(Collection<ResourceMappingPlan> edgePlans,
+                                            MappingContext context,
                                             Resource edgeOwner,
                                             org.eclipse.rdf4j.model.Resource rdfParent) {
-    return ofNullable(edgeMappings)
-      .stream()
-      .flatMap(Collection::stream)
-      .filter(oem -> nonNull(oem.getLdResourceDef()))
-      .flatMap(oem -> mapEdgeTargets(model, oem, edgeOwner, rdfParent).stream()
-        .map(r -> new ResourceEdge(edgeOwner, r, oem.getLdResourceDef().getPredicate()))
+    return edgePlans.stream()
+      .filter(ResourceMappingPlan::hasLdResourceDef)
+      .flatMap(oem -> mapEdgeTargets(context, oem, edgeOwner, rdfParent, true).stream()
+        .map(r -> new ResourceEdge(edgeOwner, r, oem.getLdPredicate()))
       )
       .collect(toSet());
   }
 
   @Override
-  public Set<ResourceEdge> mapIncomingEdges(Collection<ResourceMapping> edgeMappings,
-                                            Model model,
+  public Set<ResourceEdge> mapIncomingEdges(Collection<ResourceMappingPlan> edgePlans,
+                                            MappingContext context,
                                             Resource edgeOwner,
                                             org.eclipse.rdf4j.model.Resource rdfParent) {
-    return ofNullable(edgeMappings)
-      .stream()
-      .flatMap(Collection::stream)
-      .filter(oem -> nonNull(oem.getLdResourceDef()))
-      .flatMap(oem -> mapEdgeTargets(model, oem, edgeOwner, rdfParent).stream()
+    return edgePlans.stream()
+      .filter(ResourceMappingPlan::hasLdResourceDef)
+      .flatMap(oem -> mapEdgeTargets(context, oem, edgeOwner, rdfParent, false).stream()
         .map(r -> {
-          var re = new ResourceEdge(r, edgeOwner, oem.getLdResourceDef().getPredicate());
+          var re = new ResourceEdge(r, edgeOwner, oem.getLdPredicate());
           r.addOutgoingEdge(re);
           return re;
         })
@@ -115,34 +98,62 @@ public class CoreRdf2LdMapperImpl implements CoreRdf2LdMapper {
       .collect(toSet());
   }
 
-  private Set<Resource> mapEdgeTargets(Model model,
-                                       ResourceMapping edgeMapping,
+  /**
+   * Maps the RDF nodes linked to the parent by the edge plan. Targets of outgoing edges mapped earlier in the run
+   * are reused. Targets of incoming edges are always mapped anew, as they get an outgoing edge to the edge owner.
+   */
+  private Set<Resource> mapEdgeTargets(MappingContext context,
+                                       ResourceMappingPlan edgePlan,
                                        Resource edgeOwner,
-                                       org.eclipse.rdf4j.model.Resource rdfParent) {
+                                       org.eclipse.rdf4j.model.Resource rdfParent,
+                                       boolean reusable) {
     // fetch remote resource if it's not presented and edgeMapping.localOnly() is not true
-    var ldResourceDef = edgeMapping.getLdResourceDef();
-    var mapperUnit = rdfMapperUnitProvider.getMapper(ldResourceDef.getTypeSet(), ldResourceDef.getPredicate());
-    return selectLinkedResources(model, edgeMapping.getBfResourceDef(), rdfParent)
-      .map(resource -> mapperUnit.mapToLd(model, resource, edgeMapping, edgeOwner))
+    return selectLinkedResources(context, edgePlan.getBfResource(), rdfParent)
+      .map(resource -> mapEdgeTarget(context, resource, edgePlan, edgeOwner, reusable))
       .filter(Optional::isPresent)
       .map(Optional::get)
       .collect(toSet());
   }
 
-  private Stream<org.eclipse.rdf4j.model.Resource> selectLinkedResources(Model model,
-                                                                         BfResourceDef bfResourceDef,
+  private Optional<Resource> mapEdgeTarget(MappingContext context,
+                                           org.eclipse.rdf4j.model.Resource resource,
+                                           ResourceMappingPlan edgePlan,
+                                           Resource edgeOwner,
+                                           boolean reusable) {
+    var mapperUnit = edgePlan.getMapperUnit();
+    if (edgePlan.isLooped()) {
+      return mapLoopedTarget(context, resource, edgePlan, edgeOwner);
+    }
+    if (!reusable || mapperUnit.isParentDependent()) {
+      return mapperUnit.mapToLd(context, resource, edgePlan, edgeOwner);
+    }
+    return context.mapOnce(resource, edgePlan, () -> mapperUnit.mapToLd(context, resource, edgePlan, edgeOwner));
+  }
+
+  private Optional<Resource> mapLoopedTarget(MappingContext context,
+                                             org.eclipse.rdf4j.model.Resource resource,
+                                             ResourceMappingPlan edgePlan,
+                                             Resource edgeOwner) {
+    if (!context.enterLoop(resource, edgePlan)) {
+      log.debug("Mapping loop reached {} again, not following it", resource);
+      return Optional.empty();
+    }
+    try {
+      return edgePlan.getMapperUnit().mapToLd(context, resource, edgePlan, edgeOwner);
+    } finally {
+      context.leaveLoop(resource, edgePlan);
+    }
+  }
+
+  private Stream<org.eclipse.rdf4j.model.Resource> selectLinkedResources(MappingContext context,
+                                                                         BfResourcePlan bfResource,
                                                                          org.eclipse.rdf4j.model.Resource parent) {
-    return model.filter(parent, Values.iri(bfResourceDef.getPredicate()), null)
+    return context.getModel().filter(parent, bfResource.getPredicateIri(), null)
       .stream()
       .map(Statement::getObject)
       .filter(Value::isResource)
       .map(org.eclipse.rdf4j.model.Resource.class::cast)
-      .filter(child -> bfResourceDef.getTypeSet().isEmpty()
-        || TRUE.equals(bfResourceDef.getIgnoreTypesMatch())
-        || (TRUE.equals(bfResourceDef.getPartialTypesMatch())
-        ? getAllTypes(model, child).containsAll(bfResourceDef.getTypeSet())
-        : getAllTypes(model, child).equals(new HashSet<>(bfResourceDef.getTypeSet())))
-      );
+      .filter(child -> context.matchesTypes(child, bfResource));
   }
 
 }
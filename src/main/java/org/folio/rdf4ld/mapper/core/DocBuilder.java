@@ -0,0 +1,72 @@
+package org.folio.rdf4ld.mapper.core;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Collects the properties of a resource document straight into array nodes. Values of a property are kept distinct
+ * and in insertion order. Properties are kept in the order of a {@link HashMap}, as in the documents formerly
+ * converted from a map, so that fingerprints of the mapped resources stay the same.
+ */
+final class DocBuilder {
+  private final Map<String, PropertyValues> properties = new HashMap<>();
+
+  void add(String property, String value) {
+    properties.computeIfAbsent(property, p -> new PropertyValues()).add(value);
+  }
+
+  /**
+   * Returns the document, or null if no property has been added.
+   */
+  ObjectNode build() {
+    if (properties.isEmpty()) {
+      return null;
+    }
+    var doc = JsonNodeFactory.instance.objectNode();
+    properties.forEach((property, values) -> doc.set(property, values.array));
+    return doc;
+  }
+
+  /**
+   * Distinct values of a property. Few values are checked by scanning the array, a set is built for more.
+   */
+  private static final class PropertyValues {
+    private static final int SCAN_LIMIT = 8;
+    private final ArrayNode array = JsonNodeFactory.instance.arrayNode();
+    private Set<String> distinct;
+
+    private void add(String value) {
+      if (!contains(value)) {
+        array.add(value);
+        if (nonNull(distinct)) {
+          distinct.add(value);
+        }
+      }
+    }
+
+    private boolean contains(String value) {
+      if (isNull(distinct)) {
+        if (array.size() < SCAN_LIMIT) {
+          for (JsonNode node : array) {
+            if (value.equals(node.asString())) {
+              return true;
+            }
+          }
+          return false;
+        }
+        distinct = new HashSet<>();
+        array.forEach(node -> distinct.add(node.asString()));
+      }
+      return distinct.contains(value);
+    }
+  }
+}
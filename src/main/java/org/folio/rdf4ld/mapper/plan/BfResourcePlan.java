@@ -0,0 +1,39 @@
+package org.folio.rdf4ld.mapper.plan;
+
+import static java.lang.Boolean.TRUE;
+import static java.util.Objects.isNull;
+import static java.util.Optional.ofNullable;
+
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.util.Values;
+import org.folio.rdf4ld.model.BfResourceDef;
+
+/**
+ * Compiled form of {@link BfResourceDef} with the predicate and types already resolved to IRIs.
+ */
+@Getter
+public class BfResourcePlan {
+  private final String predicate;
+  private final IRI predicateIri;
+  private final Set<String> typeSet;
+  private final List<IRI> typeIris;
+  private final boolean anyTypeMatches;
+  private final boolean partialTypesMatch;
+
+  BfResourcePlan(BfResourceDef def) {
+    this.predicate = def.getPredicate();
+    this.predicateIri = ofNullable(predicate).map(Values::iri).orElse(null);
+    this.typeSet = isNull(def.getTypeSet()) ? Set.of() : Set.copyOf(def.getTypeSet());
+    this.typeIris = isNull(def.getTypeSet()) ? List.of() : def.getTypeSet().stream().map(Values::iri).toList();
+    this.anyTypeMatches = typeSet.isEmpty() || TRUE.equals(def.getIgnoreTypesMatch());
+    this.partialTypesMatch = TRUE.equals(def.getPartialTypesMatch());
+  }
+
+  public boolean matchesTypes(Set<String> types) {
+    return anyTypeMatches || (partialTypesMatch ? types.containsAll(typeSet) : types.equals(typeSet));
+  }
+
+}
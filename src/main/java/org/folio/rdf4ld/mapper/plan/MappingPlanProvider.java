@@ -0,0 +1,14 @@
+package org.folio.rdf4ld.mapper.plan;
+
+import java.util.List;
+import org.folio.rdf4ld.model.MappingProfile;
+
+public interface MappingPlanProvider {
+
+  /**
+   * Returns the plans of the top resource mappings of the profile, in the order of the profile. The plans are
+   * compiled on the first call for a profile instance and the same plans are returned afterwards.
+   */
+  List<ResourceMappingPlan> getTopPlans(MappingProfile profile);
+
+}
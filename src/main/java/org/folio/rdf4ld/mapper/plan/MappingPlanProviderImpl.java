@@ -0,0 +1,110 @@
+package org.folio.rdf4ld.mapper.plan;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.joining;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.rdf4ld.mapper.unit.RdfMapperUnitProvider;
+import org.folio.rdf4ld.model.MappingProfile;
+import org.folio.rdf4ld.model.PropertyMapping;
+import org.folio.rdf4ld.model.ResourceMapping;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compiles every mapping profile into {@link ResourceMappingPlan} graphs once and keeps them by profile identity.
+ * Profiles are not expected to be modified after their plans have been compiled. Profiles are held weakly, so that
+ * plans of discarded custom profiles can be reclaimed, while the plans of a profile in use are never dropped.
+ * A mapping shared by several parents is compiled once per profile, and loops are allowed: every plan on a loop is
+ * marked as looped so that the mappers can stop following it when the RDF data loops as well.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class MappingPlanProviderImpl implements MappingPlanProvider {
+  private final RdfMapperUnitProvider rdfMapperUnitProvider;
+  private final Cache<MappingProfile, List<ResourceMappingPlan>> profilePlans = CacheBuilder.newBuilder()
+    .weakKeys()
+    .build();
+
+  @Override
+  public List<ResourceMappingPlan> getTopPlans(MappingProfile profile) {
+    return profilePlans.asMap().computeIfAbsent(profile, this::compile);
+  }
+
+  private List<ResourceMappingPlan> compile(MappingProfile profile) {
+    var compiled = new IdentityHashMap<ResourceMapping, ResourceMappingPlan>();
+    var properties = new IdentityHashMap<PropertyMapping, PropertyMappingPlan>();
+    var topPlans = compileAll(profile.getTopResourceMappings(), compiled, properties, new ArrayDeque<>());
+    log.info("Compiled mapping plans of {} resource mappings for {} top resource mappings",
+      compiled.size(), topPlans.size());
+    return topPlans;
+  }
+
+  private ResourceMappingPlan compile(ResourceMapping mapping,
+                                      Map<ResourceMapping, ResourceMappingPlan> compiled,
+                                      Map<PropertyMapping, PropertyMappingPlan> properties,
+                                      Deque<ResourceMappingPlan> path) {
+    var plan = compiled.get(mapping);
+    if (nonNull(plan)) {
+      if (path.contains(plan)) {
+        markLoop(plan, path);
+      }
+      return plan;
+    }
+    var ldResourceDef = mapping.getLdResourceDef();
+    var mapperUnit = isNull(ldResourceDef) ? null
+      : rdfMapperUnitProvider.getMapper(ldResourceDef.getTypeSet(), ldResourceDef.getPredicate());
+    var newPlan = new ResourceMappingPlan(mapping, mapperUnit);
+    compiled.put(mapping, newPlan);
+    path.push(newPlan);
+    ofNullable(mapping.getResourceMapping())
+      .ifPresent(rm -> newPlan.setChildren(
+        ofNullable(rm.getProperties()).stream()
+          .flatMap(Collection::stream)
+          .map(pm -> properties.computeIfAbsent(pm, PropertyMappingPlan::new))
+          .toList(),
+        compileAll(rm.getOutgoingEdges(), compiled, properties, path),
+        compileAll(rm.getIncomingEdges(), compiled, properties, path)
+      ));
+    path.pop();
+    log.debug("Compiled mapping plan for resource types {}", newPlan.getLdTypeSet());
+    return newPlan;
+  }
+
+  private List<ResourceMappingPlan> compileAll(Collection<ResourceMapping> mappings,
+                                               Map<ResourceMapping, ResourceMappingPlan> compiled,
+                                               Map<PropertyMapping, PropertyMappingPlan> properties,
+                                               Deque<ResourceMappingPlan> path) {
+    return ofNullable(mappings).stream()
+      .flatMap(Collection::stream)
+      .map(m -> compile(m, compiled, properties, path))
+      .toList();
+  }
+
+  private void markLoop(ResourceMappingPlan loopStart, Deque<ResourceMappingPlan> path) {
+    var loop = new ArrayList<ResourceMappingPlan>();
+    for (var plan : path) {
+      loop.add(plan);
+      plan.markLooped();
+      if (plan == loopStart) {
+        break;
+      }
+    }
+    log.info("Mapping loop detected: {}", loop.reversed().stream()
+      .map(p -> p.getLdTypeSet() + "/" + p.getLdPredicate())
+      .collect(joining(" -> ", "", " -> " + loopStart.getLdTypeSet() + "/" + loopStart.getLdPredicate())));
+  }
+
+}
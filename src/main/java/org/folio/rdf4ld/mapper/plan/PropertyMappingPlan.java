@@ -0,0 +1,35 @@
+package org.folio.rdf4ld.mapper.plan;
+
+import static java.util.Optional.ofNullable;
+
+import lombok.Getter;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.util.Values;
+import org.folio.ld.dictionary.PropertyDictionary;
+import org.folio.rdf4ld.model.PropertyMapping;
+import org.folio.rdf4ld.util.RdfUtil;
+
+/**
+ * Compiled form of {@link PropertyMapping}.
+ */
+@Getter
+public class PropertyMappingPlan {
+  private final PropertyMapping mapping;
+  private final PropertyDictionary ldProperty;
+  private final String ldKey;
+  private final String bfProperty;
+  private final IRI bfPropertyIri;
+  private final boolean subjectIri;
+  private final BfResourcePlan edgeParent;
+
+  PropertyMappingPlan(PropertyMapping mapping) {
+    this.mapping = mapping;
+    this.ldProperty = mapping.getLdProperty();
+    this.ldKey = ldProperty.getValue();
+    this.bfProperty = mapping.getBfProperty();
+    this.subjectIri = RdfUtil.IRI.equals(bfProperty);
+    this.bfPropertyIri = subjectIri ? null : Values.iri(bfProperty);
+    this.edgeParent = ofNullable(mapping.getEdgeParentBfDef()).map(BfResourcePlan::new).orElse(null);
+  }
+
+}
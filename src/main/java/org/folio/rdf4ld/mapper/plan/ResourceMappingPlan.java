@@ -0,0 +1,100 @@
+package org.folio.rdf4ld.mapper.plan;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
+
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import org.folio.ld.dictionary.PredicateDictionary;
+import org.folio.ld.dictionary.PropertyDictionary;
+import org.folio.ld.dictionary.ResourceTypeDictionary;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.rdf4ld.mapper.unit.RdfMapperUnit;
+import org.folio.rdf4ld.model.LdResourceDef;
+import org.folio.rdf4ld.model.ResourceInternalMapping;
+import org.folio.rdf4ld.model.ResourceMapping;
+
+/**
+ * Compiled form of {@link ResourceMapping}: resolved IRIs, type matchers and the {@link RdfMapperUnit}
+ * responsible for the resource. Child plans and the loop flag are assigned once by {@link MappingPlanProviderImpl}
+ * before the plan is published, and never change afterwards.
+ */
+@Getter
+public class ResourceMappingPlan {
+  private final ResourceMapping mapping;
+  private final BfResourcePlan bfResource;
+  private final Set<ResourceTypeDictionary> ldTypeSet;
+  private final PredicateDictionary ldPredicate;
+  private final RdfMapperUnit mapperUnit;
+  private final boolean internalMapping;
+  private final List<PropertyDictionary> label;
+  private List<PropertyMappingPlan> properties = List.of();
+  private List<ResourceMappingPlan> outgoingEdges = List.of();
+  private List<ResourceMappingPlan> incomingEdges = List.of();
+  private boolean looped;
+
+  ResourceMappingPlan(ResourceMapping mapping, RdfMapperUnit mapperUnit) {
+    this.mapping = mapping;
+    this.mapperUnit = mapperUnit;
+    this.bfResource = ofNullable(mapping.getBfResourceDef()).map(BfResourcePlan::new).orElse(null);
+    var ldResourceDef = mapping.getLdResourceDef();
+    this.ldTypeSet = ofNullable(ldResourceDef).map(LdResourceDef::getTypeSet).map(Set::copyOf).orElse(Set.of());
+    this.ldPredicate = ofNullable(ldResourceDef).map(LdResourceDef::getPredicate).orElse(null);
+    this.internalMapping = nonNull(mapping.getResourceMapping());
+    this.label = ofNullable(mapping.getResourceMapping()).map(ResourceInternalMapping::getLabel).map(List::copyOf)
+      .orElse(List.of());
+  }
+
+  public boolean hasLdResourceDef() {
+    return nonNull(mapping.getLdResourceDef());
+  }
+
+  /**
+   * Tells whether the mapping has a {@link ResourceInternalMapping}, so that properties, edges and the label of the
+   * resource are mapped.
+   */
+  public boolean hasResourceMapping() {
+    return internalMapping;
+  }
+
+  /**
+   * Returns the plan of the outgoing edge at the given position in the mapping, or null if there is none.
+   */
+  public ResourceMappingPlan getOutgoingEdge(int number) {
+    return number < outgoingEdges.size() ? outgoingEdges.get(number) : null;
+  }
+
+  /**
+   * Checks whether the plan of a top resource mapping applies to the given resource.
+   */
+  public boolean matchesTopResource(Resource resource) {
+    if (isNull(bfResource) || !bfResource.isPartialTypesMatch()) {
+      return resource.getTypes().equals(ldTypeSet);
+    }
+    return resource.getTypes().containsAll(ldTypeSet);
+  }
+
+  /**
+   * Checks whether the plan of an outgoing edge mapping applies to the given edge.
+   */
+  public boolean matchesEdge(ResourceEdge edge) {
+    return (ldTypeSet.isEmpty() || edge.getTarget().getTypes().containsAll(ldTypeSet))
+      && edge.getPredicate().equals(ldPredicate);
+  }
+
+  void setChildren(List<PropertyMappingPlan> properties,
+                   List<ResourceMappingPlan> outgoingEdges,
+                   List<ResourceMappingPlan> incomingEdges) {
+    this.properties = properties;
+    this.outgoingEdges = outgoingEdges;
+    this.incomingEdges = incomingEdges;
+  }
+
+  void markLooped() {
+    this.looped = true;
+  }
+
+}
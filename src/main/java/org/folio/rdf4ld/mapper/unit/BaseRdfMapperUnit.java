@@ -12,17 +12,15 @@ import java.util.Date;
 import java.util.Optional;
 import java.util.function.LongFunction;
 import lombok.RequiredArgsConstructor;
-import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.folio.ld.dictionary.PropertyDictionary;
 import org.folio.ld.dictionary.label.LabelGeneratorService;
 import org.folio.ld.dictionary.model.Resource;
-import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.mapper.context.MappingContext;
 import org.folio.rdf4ld.mapper.core.CoreLd2RdfMapper;
 import org.folio.rdf4ld.mapper.core.CoreRdf2LdMapper;
-import org.folio.rdf4ld.model.ResourceInternalMapping;
-import org.folio.rdf4ld.model.ResourceMapping;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -32,35 +30,30 @@ public class BaseRdfMapperUnit implements RdfMapperUnit {
   private static final PropertyDictionary[] DEFAULT_LABELS = {LABEL, LABEL_RDF};
   private final CoreRdf2LdMapper coreRdf2LdMapper;
   private final CoreLd2RdfMapper coreLd2RdfMapper;
-  private final FingerprintHashService hashService;
   private final LongFunction<String> resourceUrlProvider;
   private final LabelGeneratorService labelGeneratorService;
 
   @Override
-  public Optional<Resource> mapToLd(Model model,
+  public Optional<Resource> mapToLd(MappingContext context,
                                     org.eclipse.rdf4j.model.Resource rdfResource,
-                                    ResourceMapping mapping,
+                                    ResourceMappingPlan plan,
                                     Resource parent) {
-    var resourceMapping = mapping.getResourceMapping();
     var resource = new Resource();
     resource.setCreatedDate(new Date());
-    resource.getTypes().addAll(mapping.getLdResourceDef().getTypeSet());
-    ofNullable(resourceMapping)
-      .ifPresent(rm -> {
-        resource.setDoc(coreRdf2LdMapper.mapDoc(rdfResource, model, resourceMapping.getProperties()));
-        var outEdges = coreRdf2LdMapper.mapOutgoingEdges(resourceMapping.getOutgoingEdges(),
-          model, resource, rdfResource);
-        var inEdges = coreRdf2LdMapper.mapIncomingEdges(resourceMapping.getIncomingEdges(),
-          model, resource, rdfResource);
-        resource.getOutgoingEdges().addAll(outEdges);
-        resource.getIncomingEdges().addAll(inEdges);
-        setLabel(resource, resourceMapping);
-      });
-    resource.setId(hashService.hash(resource));
+    resource.getTypes().addAll(plan.getLdTypeSet());
+    if (plan.hasResourceMapping()) {
+      resource.setDoc(coreRdf2LdMapper.mapDoc(rdfResource, context, plan.getProperties()));
+      var outEdges = coreRdf2LdMapper.mapOutgoingEdges(plan.getOutgoingEdges(), context, resource, rdfResource);
+      var inEdges = coreRdf2LdMapper.mapIncomingEdges(plan.getIncomingEdges(), context, resource, rdfResource);
+      resource.getOutgoingEdges().addAll(outEdges);
+      resource.getIncomingEdges().addAll(inEdges);
+      setLabel(resource, plan);
+    }
+    context.markDirty(resource);
     return Optional.of(resource);
   }
 
-  private void setLabel(Resource resource, ResourceInternalMapping resourceMapping) {
+  private void setLabel(Resource resource, ResourceMappingPlan plan) {
     var labelFromDoc = getPropertiesString(resource.getDoc(), DEFAULT_LABELS);
     if (isNotBlank(labelFromDoc)) {
       resource.setLabel(labelFromDoc);
@@ -73,22 +66,20 @@ public class BaseRdfMapperUnit implements RdfMapperUnit {
       return;
     }
 
-    var labelProperties = resourceMapping.getLabel().toArray(PropertyDictionary[]::new);
+    var labelProperties = plan.getLabel().toArray(PropertyDictionary[]::new);
     resource.setLabel(getPropertiesString(resource.getDoc(), labelProperties));
   }
 
   @Override
-  public void mapToBibframe(Resource resource, ModelBuilder modelBuilder, ResourceMapping mapping, Resource parent) {
+  public void mapToBibframe(Resource resource, ModelBuilder modelBuilder, ResourceMappingPlan plan, Resource parent) {
     var resourceIri = iri(resourceUrlProvider.apply(resource.getId()));
     modelBuilder.subject(resourceIri);
-    mapping.getBfResourceDef().getTypeSet().forEach(type -> modelBuilder.add(RDF.TYPE, iri(type)));
-    coreLd2RdfMapper.mapProperties(resource, modelBuilder, mapping);
-    resource.getOutgoingEdges().forEach(oe ->
-      coreLd2RdfMapper.mapOutgoingEdge(modelBuilder, oe, mapping.getResourceMapping())
-    );
+    plan.getBfResource().getTypeIris().forEach(type -> modelBuilder.add(RDF.TYPE, type));
+    coreLd2RdfMapper.mapProperties(resource, modelBuilder, plan);
+    resource.getOutgoingEdges().forEach(oe -> coreLd2RdfMapper.mapOutgoingEdge(modelBuilder, oe, plan));
     ofNullable(parent)
       .ifPresent(p -> linkResources(iri(resourceUrlProvider.apply(p.getId())),
-        resourceIri, mapping.getBfResourceDef().getPredicate(), modelBuilder)
+        resourceIri, plan.getBfResource().getPredicate(), modelBuilder)
       );
   }
 
@@ -6,7 +6,14 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import org.folio.ld.dictionary.PredicateDictionary;
 import org.folio.ld.dictionary.ResourceTypeDictionary;
+import org.springframework.aot.hint.annotation.Reflective;
 
+/**
+ * Declares the resource types and predicate an {@link RdfMapperUnit} handles.
+ * The annotation is read once, when {@link RdfMapperUnitProviderImpl} indexes the units, and is {@link Reflective}
+ * so that Spring AOT keeps it available on annotated units in a native image.
+ */
+@Reflective
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
 public @interface RdfMapperDefinition {
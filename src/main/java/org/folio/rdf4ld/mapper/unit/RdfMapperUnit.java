@@ -1,25 +1,38 @@
 package org.folio.rdf4ld.mapper.unit;
 
 import java.util.Optional;
-import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.folio.ld.dictionary.model.Resource;
-import org.folio.rdf4ld.model.ResourceMapping;
+import org.folio.rdf4ld.mapper.context.MappingContext;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 
 public interface RdfMapperUnit {
 
-  Optional<Resource> mapToLd(Model model,
+  /**
+   * Maps the RDF node to a resource. New resources are marked with {@link MappingContext#markDirty} instead of being
+   * hashed, their ids are assigned once the whole graph of the mapping run is built. The plan is the compiled mapping
+   * of the resource, its edge plans are walked to map the sub-resources.
+   */
+  Optional<Resource> mapToLd(MappingContext context,
                              org.eclipse.rdf4j.model.Resource resource,
-                             ResourceMapping resourceMapping,
+                             ResourceMappingPlan plan,
                              Resource parent);
 
   void mapToBibframe(Resource resource,
                      ModelBuilder modelBuilder,
-                     ResourceMapping resourceMapping,
+                     ResourceMappingPlan plan,
                      Resource parent);
 
 
   default Resource enrichUnMockedResource(Resource resource) {
     return resource;
   }
+
+  /**
+   * Tells whether {@link #mapToLd} uses or changes the parent resource. Resources mapped by such a unit are not
+   * reused for other parents referencing the same RDF node within a mapping run.
+   */
+  default boolean isParentDependent() {
+    return false;
+  }
 }
@@ -1,49 +1,135 @@
 package org.folio.rdf4ld.mapper.unit;
 
-import static java.util.Arrays.asList;
+import static java.util.Comparator.comparing;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.joining;
 
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.log4j.Log4j2;
 import org.folio.ld.dictionary.PredicateDictionary;
 import org.folio.ld.dictionary.ResourceTypeDictionary;
-import org.springframework.context.annotation.Lazy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
+/**
+ * Resolves {@link RdfMapperUnit}s by the types and predicate declared in their {@link RdfMapperDefinition}.
+ * The definitions are indexed once, after all singletons are instantiated, and every resolved lookup is cached,
+ * falling back to {@link BaseRdfMapperUnit} when no definition matches.
+ * The units are obtained through {@link ObjectProvider}s rather than lazy-resolution proxies, which keeps the
+ * provider free of runtime-generated classes in a native image.
+ */
 @Log4j2
 @Component
-public class RdfMapperUnitProviderImpl implements RdfMapperUnitProvider {
-  private final BaseRdfMapperUnit baseMapperUnit;
-  private final Set<RdfMapperUnit> rdfMapperUnits;
+public class RdfMapperUnitProviderImpl implements RdfMapperUnitProvider, SmartInitializingSingleton {
+  private final ObjectProvider<BaseRdfMapperUnit> baseMapperUnitProvider;
+  private final ObjectProvider<RdfMapperUnit> rdfMapperUnitsProvider;
+  private final Map<Key, RdfMapperUnit> resolved = new ConcurrentHashMap<>();
+  private volatile Index index;
 
-  public RdfMapperUnitProviderImpl(@Lazy BaseRdfMapperUnit baseMapperUnit,
-                                   @Lazy Set<RdfMapperUnit> rdfMapperUnits) {
-    this.baseMapperUnit = baseMapperUnit;
-    this.rdfMapperUnits = rdfMapperUnits;
+  public RdfMapperUnitProviderImpl(ObjectProvider<BaseRdfMapperUnit> baseMapperUnitProvider,
+                                   ObjectProvider<RdfMapperUnit> rdfMapperUnitsProvider) {
+    this.baseMapperUnitProvider = baseMapperUnitProvider;
+    this.rdfMapperUnitsProvider = rdfMapperUnitsProvider;
+  }
+
+  @Override
+  public void afterSingletonsInstantiated() {
+    getIndex();
   }
 
   @Override
   public RdfMapperUnit getMapper(Collection<ResourceTypeDictionary> typeSet, PredicateDictionary predicate) {
-    return rdfMapperUnits.stream()
-      .filter(m -> m.getClass().isAnnotationPresent(RdfMapperDefinition.class))
-      .filter(m -> {
-        var annotation = m.getClass().getAnnotation(RdfMapperDefinition.class);
-        return (typeSet.isEmpty() || new HashSet<>(typeSet).equals(toSet(annotation.types())))
-          && (isNull(predicate) || predicate == annotation.predicate());
-      })
-      .findFirst()
-      .orElseGet(() -> {
-        log.debug("No mapper found for resource types [{}]{}, using BaseMapperUnit",
-          typeSet.stream().map(ResourceTypeDictionary::getUri).collect(joining(", ")),
-          predicate != null ? " and predicate [" + predicate.getUri() + "]" : null);
-        return baseMapperUnit;
-      });
-  }
-
-  private HashSet<ResourceTypeDictionary> toSet(ResourceTypeDictionary[] types) {
-    return new HashSet<>(asList(types));
+    var types = typeSet.isEmpty() ? EnumSet.noneOf(ResourceTypeDictionary.class) : EnumSet.copyOf(typeSet);
+    return resolved.computeIfAbsent(new Key(types, predicate), this::resolve);
+  }
+
+  private RdfMapperUnit resolve(Key key) {
+    var idx = getIndex();
+    RdfMapperUnit unit;
+    if (key.types().isEmpty() && isNull(key.predicate())) {
+      unit = null;
+    } else if (key.types().isEmpty()) {
+      unit = idx.byPredicate().get(key.predicate());
+    } else if (isNull(key.predicate())) {
+      unit = idx.byTypes().get(key.types());
+    } else {
+      unit = idx.exact().get(key);
+    }
+    if (nonNull(unit)) {
+      return unit;
+    }
+    log.debug("No mapper found for resource types [{}]{}, using BaseMapperUnit",
+      key.types().stream().map(ResourceTypeDictionary::getUri).collect(joining(", ")),
+      nonNull(key.predicate()) ? " and predicate [" + key.predicate().getUri() + "]" : "");
+    return idx.baseUnit();
+  }
+
+  private Index getIndex() {
+    var idx = index;
+    if (isNull(idx)) {
+      synchronized (this) {
+        idx = index;
+        if (isNull(idx)) {
+          idx = buildIndex();
+          index = idx;
+        }
+      }
+    }
+    return idx;
+  }
+
+  private Index buildIndex() {
+    var exact = new HashMap<Key, RdfMapperUnit>();
+    var byPredicate = new HashMap<PredicateDictionary, RdfMapperUnit>();
+    var byTypes = new HashMap<Set<ResourceTypeDictionary>, RdfMapperUnit>();
+    var sortedUnits = rdfMapperUnitsProvider.stream()
+      .filter(m -> ClassUtils.getUserClass(m).isAnnotationPresent(RdfMapperDefinition.class))
+      .sorted(comparing((RdfMapperUnit m) -> ClassUtils.getUserClass(m).getName()))
+      .toList();
+    for (var unit : sortedUnits) {
+      var definition = ClassUtils.getUserClass(unit).getAnnotation(RdfMapperDefinition.class);
+      var types = definition.types().length == 0 ? EnumSet.noneOf(ResourceTypeDictionary.class)
+        : EnumSet.copyOf(List.of(definition.types()));
+      var existing = exact.putIfAbsent(new Key(types, definition.predicate()), unit);
+      if (nonNull(existing)) {
+        throw new IllegalStateException("Ambiguous RdfMapperDefinition: "
+          + ClassUtils.getUserClass(existing).getName() + " and " + ClassUtils.getUserClass(unit).getName()
+          + " are both defined for types " + types + " and predicate " + definition.predicate());
+      }
+      putWildcard(byPredicate, definition.predicate(), unit, "predicate");
+      if (!types.isEmpty()) {
+        putWildcard(byTypes, types, unit, "types");
+      }
+    }
+    log.info("Indexed {} RdfMapperUnit definitions", exact.size());
+    return new Index(baseMapperUnitProvider.getObject(), Map.copyOf(exact), Map.copyOf(byPredicate),
+      Map.copyOf(byTypes));
+  }
+
+  private <K> void putWildcard(Map<K, RdfMapperUnit> map, K key, RdfMapperUnit unit, String keyName) {
+    var existing = map.putIfAbsent(key, unit);
+    if (nonNull(existing)) {
+      log.warn("RdfMapperUnits {} and {} share the same {} {}, lookups by {} only will use the former",
+        ClassUtils.getUserClass(existing).getSimpleName(), ClassUtils.getUserClass(unit).getSimpleName(),
+        keyName, key, keyName);
+    }
+  }
+
+  private record Key(Set<ResourceTypeDictionary> types, PredicateDictionary predicate) {
+  }
+
+  private record Index(RdfMapperUnit baseUnit,
+                       Map<Key, RdfMapperUnit> exact,
+                       Map<PredicateDictionary, RdfMapperUnit> byPredicate,
+                       Map<Set<ResourceTypeDictionary>, RdfMapperUnit> byTypes) {
   }
 }
@@ -17,15 +17,14 @@ import java.util.Optional;
 import java.util.function.LongFunction;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.rdf4j.model.IRI;
-import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.folio.ld.dictionary.model.Resource;
 import org.folio.ld.dictionary.specific.PlaceDictionary;
-import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.mapper.context.MappingContext;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.folio.rdf4ld.mapper.unit.BaseRdfMapperUnit;
 import org.folio.rdf4ld.mapper.unit.RdfMapperDefinition;
 import org.folio.rdf4ld.mapper.unit.RdfMapperUnit;
-import org.folio.rdf4ld.model.ResourceMapping;
 import org.springframework.stereotype.Component;
 import tools.jackson.databind.node.JsonNodeFactory;
 
@@ -33,27 +32,26 @@ import tools.jackson.databind.node.JsonNodeFactory;
 @RequiredArgsConstructor
 @RdfMapperDefinition(types = PLACE, predicate = PROVIDER_PLACE)
 public class ProviderPlaceRdfMapperUnit implements RdfMapperUnit {
-  private final FingerprintHashService hashService;
   private final BaseRdfMapperUnit baseRdfMapperUnit;
   private final LongFunction<String> resourceUrlProvider;
 
   @Override
-  public Optional<Resource> mapToLd(Model model,
+  public Optional<Resource> mapToLd(MappingContext context,
                                     org.eclipse.rdf4j.model.Resource resource,
-                                    ResourceMapping mapping,
+                                    ResourceMappingPlan plan,
                                     Resource parent) {
     if (resource instanceof IRI iri) {
-      return toProviderPlace(iri, model, resource, mapping, parent);
+      return toProviderPlace(iri, context, resource, plan, parent);
     }
     return empty();
   }
 
   private Optional<Resource> toProviderPlace(IRI iri,
-                                             Model model,
+                                             MappingContext context,
                                              org.eclipse.rdf4j.model.Resource resource,
-                                             ResourceMapping mapping,
+                                             ResourceMappingPlan plan,
                                              Resource parent) {
-    return baseRdfMapperUnit.mapToLd(model, resource, mapping, parent)
+    return baseRdfMapperUnit.mapToLd(context, resource, plan, parent)
       .map(r -> {
           if (isNull(r.getDoc())) {
             r.setDoc(JsonNodeFactory.instance.objectNode());
@@ -66,8 +64,7 @@ public class ProviderPlaceRdfMapperUnit implements RdfMapperUnit {
             );
           return r
             .setDoc(addProperty(r.getDoc(), CODE, iri.getLocalName()))
-            .setDoc(addProperty(r.getDoc(), LINK, iri.stringValue()))
-            .setId(hashService.hash(r));
+            .setDoc(addProperty(r.getDoc(), LINK, iri.stringValue()));
         }
       );
   }
@@ -75,11 +72,11 @@ public class ProviderPlaceRdfMapperUnit implements RdfMapperUnit {
   @Override
   public void mapToBibframe(Resource resource,
                             ModelBuilder modelBuilder,
-                            ResourceMapping mapping,
+                            ResourceMappingPlan plan,
                             Resource parent) {
     var parentIri = iri(resourceUrlProvider.apply(parent.getId()));
     var link = getPropertyString(resource.getDoc(), LINK);
-    linkResources(parentIri, iri(link), mapping.getBfResourceDef().getPredicate(), modelBuilder);
+    linkResources(parentIri, iri(link), plan.getBfResource().getPredicate(), modelBuilder);
   }
 
 }
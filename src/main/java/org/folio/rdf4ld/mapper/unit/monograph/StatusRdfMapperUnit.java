@@ -12,17 +12,16 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.LongFunction;
 import lombok.RequiredArgsConstructor;
-import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.impl.SimpleIRI;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.folio.ld.dictionary.PredicateDictionary;
 import org.folio.ld.dictionary.model.Resource;
-import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.mapper.context.MappingContext;
 import org.folio.rdf4ld.mapper.core.CoreRdf2LdMapper;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.folio.rdf4ld.mapper.unit.BaseRdfMapperUnit;
 import org.folio.rdf4ld.mapper.unit.RdfMapperDefinition;
 import org.folio.rdf4ld.mapper.unit.RdfMapperUnit;
-import org.folio.rdf4ld.model.ResourceMapping;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -31,16 +30,15 @@ import org.springframework.stereotype.Component;
 public class StatusRdfMapperUnit implements RdfMapperUnit {
 
   private final CoreRdf2LdMapper coreRdf2LdMapper;
-  private final FingerprintHashService hashService;
   private final BaseRdfMapperUnit baseRdfMapperUnit;
   private final LongFunction<String> resourceUrlProvider;
 
   @Override
-  public Optional<Resource> mapToLd(Model model,
+  public Optional<Resource> mapToLd(MappingContext context,
                                     org.eclipse.rdf4j.model.Resource resource,
-                                    ResourceMapping resourceMapping,
+                                    ResourceMappingPlan plan,
                                     Resource parent) {
-    return baseRdfMapperUnit.mapToLd(model, resource, resourceMapping, parent)
+    return baseRdfMapperUnit.mapToLd(context, resource, plan, parent)
       .map(status -> {
         var label = ((SimpleIRI) resource).getLocalName();
         status.setDoc(coreRdf2LdMapper.toJson(Map.of(
@@ -48,7 +46,6 @@ public class StatusRdfMapperUnit implements RdfMapperUnit {
           LINK.getValue(), List.of(resource.stringValue())
         )));
         status.setLabel(label);
-        status.setId(hashService.hash(status));
         return status;
       });
   }
@@ -56,11 +53,11 @@ public class StatusRdfMapperUnit implements RdfMapperUnit {
   @Override
   public void mapToBibframe(Resource resource,
                             ModelBuilder modelBuilder,
-                            ResourceMapping mapping,
+                            ResourceMappingPlan plan,
                             Resource parent) {
     var statusLink = getPropertyString(resource.getDoc(), LINK);
     linkResources(iri(resourceUrlProvider.apply(parent.getId())),
-      iri(statusLink), mapping.getBfResourceDef().getPredicate(), modelBuilder);
+      iri(statusLink), plan.getBfResource().getPredicate(), modelBuilder);
 
   }
 
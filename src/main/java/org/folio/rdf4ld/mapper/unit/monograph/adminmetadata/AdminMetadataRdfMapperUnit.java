@@ -12,17 +12,17 @@ import java.util.Optional;
 import java.util.function.LongFunction;
 import java.util.stream.StreamSupport;
 import lombok.RequiredArgsConstructor;
-import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.model.vocabulary.RDFS;
 import org.folio.ld.dictionary.model.Resource;
+import org.folio.rdf4ld.mapper.context.MappingContext;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.folio.rdf4ld.mapper.unit.BaseRdfMapperUnit;
 import org.folio.rdf4ld.mapper.unit.RdfMapperDefinition;
 import org.folio.rdf4ld.mapper.unit.RdfMapperUnit;
-import org.folio.rdf4ld.model.ResourceMapping;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -40,9 +40,9 @@ public class AdminMetadataRdfMapperUnit implements RdfMapperUnit {
   private final LongFunction<String> resourceUrlProvider;
 
   @Override
-  public Optional<Resource> mapToLd(Model model,
+  public Optional<Resource> mapToLd(MappingContext context,
                                     org.eclipse.rdf4j.model.Resource resource,
-                                    ResourceMapping resourceMapping,
+                                    ResourceMappingPlan plan,
                                     Resource parent) {
     // Do not process admin metadata coming from BIBFRAME.
     // Values currently would either not transfer contexts (like local identifiers
@@ -54,9 +54,9 @@ public class AdminMetadataRdfMapperUnit implements RdfMapperUnit {
   @Override
   public void mapToBibframe(Resource resource,
                             ModelBuilder modelBuilder,
-                            ResourceMapping resourceMapping,
+                            ResourceMappingPlan plan,
                             Resource parent) {
-    baseRdfMapperUnit.mapToBibframe(resource, modelBuilder, resourceMapping, parent);
+    baseRdfMapperUnit.mapToBibframe(resource, modelBuilder, plan, parent);
     addLocalIdentifiers(resource, modelBuilder);
   }
 
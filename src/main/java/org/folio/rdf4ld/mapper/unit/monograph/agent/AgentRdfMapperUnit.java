@@ -6,7 +6,7 @@ import static org.eclipse.rdf4j.model.util.Values.iri;
 import static org.eclipse.rdf4j.model.vocabulary.RDFS.LABEL;
 import static org.folio.ld.dictionary.PredicateDictionary.CONTRIBUTOR;
 import static org.folio.ld.dictionary.PredicateDictionary.CREATOR;
-import static org.folio.rdf4ld.util.MappingUtil.getEdgeMapping;
+import static org.folio.rdf4ld.util.MappingUtil.getEdgePlan;
 import static org.folio.rdf4ld.util.MappingUtil.getEdgePredicate;
 import static org.folio.rdf4ld.util.RdfUtil.getByPredicate;
 import static org.folio.rdf4ld.util.RdfUtil.linkResources;
@@ -30,13 +30,11 @@ import org.folio.ld.dictionary.model.Resource;
 import org.folio.ld.dictionary.model.ResourceEdge;
 import org.folio.ld.dictionary.specific.RoleDictionary;
 import org.folio.ld.dictionary.specific.RoleLabelDictionary;
-import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.mapper.context.MappingContext;
 import org.folio.rdf4ld.mapper.core.CoreLd2RdfMapper;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.folio.rdf4ld.mapper.unit.BaseRdfMapperUnit;
-import org.folio.rdf4ld.mapper.unit.RdfMapperDefinition;
 import org.folio.rdf4ld.mapper.unit.RdfMapperUnit;
-import org.folio.rdf4ld.model.ResourceInternalMapping;
-import org.folio.rdf4ld.model.ResourceMapping;
 import org.folio.rdf4ld.service.lccn.MockLccnResourceService;
 import org.folio.rdf4ld.util.ResourceUtil;
 
@@ -46,30 +44,31 @@ public abstract class AgentRdfMapperUnit implements RdfMapperUnit {
   private static final int AGENT_EDGE_NUMBER = 0;
   private static final int ROLE_EDGE_NUMBER = 1;
   private static final String ROLES_NAMESPACE = "http://id.loc.gov/vocabulary/relators/";
+  private final PredicateDictionary contributionPredicate;
   private final CoreLd2RdfMapper coreLd2RdfMapper;
-  private final FingerprintHashService hashService;
   private final BaseRdfMapperUnit baseRdfMapperUnit;
   private final LongFunction<String> resourceUrlProvider;
   private final MockLccnResourceService mockLccnResourceService;
 
   @Override
-  public Optional<Resource> mapToLd(Model model,
+  public Optional<Resource> mapToLd(MappingContext context,
                                     org.eclipse.rdf4j.model.Resource contributionResource,
-                                    ResourceMapping mapping,
+                                    ResourceMappingPlan plan,
                                     Resource parent) {
-    var agentPredicate = getEdgePredicate(mapping.getResourceMapping(), AGENT_EDGE_NUMBER);
+    var agentPredicate = getEdgePredicate(plan, AGENT_EDGE_NUMBER);
+    var model = context.getModel();
     var agentResourceOptional = getByPredicate(model, contributionResource, agentPredicate)
       .findFirst();
-    var ldTypes = mapping.getLdResourceDef().getTypeSet();
+    var ldTypes = plan.getLdTypeSet();
     if (agentResourceOptional.isEmpty()) {
       log.warn("No agent resource was found for Contribution of ldTypes: {}", ldTypes);
       return empty();
     }
     return agentResourceOptional
       .map(ar -> {
-        var agentMapping = getEdgeMapping(mapping.getResourceMapping(), AGENT_EDGE_NUMBER);
-        var agentOptional = mapAgent(model, (org.eclipse.rdf4j.model.Resource) ar, agentMapping, parent)
-          .map(agent -> addRoles(agent, parent, model, contributionResource, mapping.getResourceMapping()));
+        var agentPlan = getEdgePlan(plan, AGENT_EDGE_NUMBER);
+        var agentOptional = mapAgent(context, (org.eclipse.rdf4j.model.Resource) ar, agentPlan, parent)
+          .map(agent -> addRoles(agent, parent, model, contributionResource, plan));
         if (ar instanceof IRI iri) {
           agentOptional = of(mockLccnResourceService.mockLccnResource(agentOptional.orElse(null), iri.getLocalName()));
         }
@@ -78,18 +77,26 @@ public abstract class AgentRdfMapperUnit implements RdfMapperUnit {
       .get();
   }
 
-  private Optional<Resource> mapAgent(Model model, org.eclipse.rdf4j.model.Resource agentNode,
-                                      ResourceMapping mapping, Resource parent) {
-    return baseRdfMapperUnit.mapToLd(model, agentNode, mapping, parent)
-      .map(agent -> ResourceUtil.enrichResource(agent, model, agentNode, hashService));
+  /**
+   * Roles of the agent are added to the parent as extra edges, so the agent is mapped for every parent.
+   */
+  @Override
+  public boolean isParentDependent() {
+    return true;
+  }
+
+  private Optional<Resource> mapAgent(MappingContext context, org.eclipse.rdf4j.model.Resource agentNode,
+                                      ResourceMappingPlan plan, Resource parent) {
+    return baseRdfMapperUnit.mapToLd(context, agentNode, plan, parent)
+      .map(agent -> ResourceUtil.enrichResource(agent, context, agentNode));
   }
 
   private Resource addRoles(Resource agent,
                             Resource parent,
                             Model model,
                             org.eclipse.rdf4j.model.Resource contributionResource,
-                            ResourceInternalMapping resourceMapping) {
-    var rolePredicate = getEdgePredicate(resourceMapping, ROLE_EDGE_NUMBER);
+                            ResourceMappingPlan plan) {
+    var rolePredicate = getEdgePredicate(plan, ROLE_EDGE_NUMBER);
     getByPredicate(model, contributionResource, rolePredicate)
       .map(role -> resolveRolePredicate(model, role))
       .flatMap(Optional::stream)
@@ -124,34 +131,34 @@ public abstract class AgentRdfMapperUnit implements RdfMapperUnit {
   @Override
   public void mapToBibframe(Resource agent,
                             ModelBuilder modelBuilder,
-                            ResourceMapping resourceMapping,
+                            ResourceMappingPlan plan,
                             Resource parent) {
     var nodeId = getNodeId(agent);
     var contributionNode = Values.bnode(nodeId);
-    writeContributionLink(contributionNode, modelBuilder, resourceMapping, parent);
+    writeContributionLink(contributionNode, modelBuilder, plan, parent);
     getCurrentIdentifierLink(agent).ifPresentOrElse(identifierLink -> {
         var agentIri = iri(identifierLink);
-        writeContributionResource(agent, contributionNode, agentIri, modelBuilder, resourceMapping, parent);
+        writeContributionResource(agent, contributionNode, agentIri, modelBuilder, plan, parent);
       }, () -> {
         var agentNode = Values.bnode(nodeId + "_agent");
-        writeContributionResource(agent, contributionNode, agentNode, modelBuilder, resourceMapping, parent);
-        writeAgentResource(agent, agentNode, modelBuilder, resourceMapping);
+        writeContributionResource(agent, contributionNode, agentNode, modelBuilder, plan, parent);
+        writeAgentResource(agent, agentNode, modelBuilder, plan);
       }
     );
   }
 
   private String getNodeId(Resource agent) {
-    var predicate = this.getClass().getAnnotation(RdfMapperDefinition.class).predicate().name();
-    return predicate + "_" + agent.getId();
+    return contributionPredicate.name() + "_" + agent.getId();
   }
 
-  private void writeContributionLink(BNode bnode, ModelBuilder modelBuilder, ResourceMapping mapping, Resource parent) {
+  private void writeContributionLink(BNode bnode, ModelBuilder modelBuilder, ResourceMappingPlan plan,
+                                     Resource parent) {
     linkResources(iri(resourceUrlProvider.apply(parent.getId())), bnode,
-      mapping.getBfResourceDef().getPredicate(), modelBuilder);
+      plan.getBfResource().getPredicate(), modelBuilder);
   }
 
-  private void writeRoles(Resource agent, ModelBuilder modelBuilder, ResourceMapping mapping, Resource parent) {
-    var rolePredicate = getEdgePredicate(mapping.getResourceMapping(), ROLE_EDGE_NUMBER);
+  private void writeRoles(Resource agent, ModelBuilder modelBuilder, ResourceMappingPlan plan, Resource parent) {
+    var rolePredicate = getEdgePredicate(plan, ROLE_EDGE_NUMBER);
     parent.getOutgoingEdges()
       .stream()
       .filter(e -> e.getTarget().equals(agent))
@@ -166,17 +173,18 @@ public abstract class AgentRdfMapperUnit implements RdfMapperUnit {
                                          BNode contributionNode,
                                          org.eclipse.rdf4j.model.Resource agentRdf,
                                          ModelBuilder modelBuilder,
-                                         ResourceMapping mapping,
+                                         ResourceMappingPlan plan,
                                          Resource parent) {
-    writeBlankNode(contributionNode, agent, modelBuilder, mapping, coreLd2RdfMapper);
-    var agentPredicate = getEdgePredicate(mapping.getResourceMapping(), AGENT_EDGE_NUMBER);
+    writeBlankNode(contributionNode, agent, modelBuilder, plan, coreLd2RdfMapper);
+    var agentPredicate = getEdgePredicate(plan, AGENT_EDGE_NUMBER);
     modelBuilder.add(agentPredicate, agentRdf);
-    writeRoles(agent, modelBuilder, mapping, parent);
+    writeRoles(agent, modelBuilder, plan, parent);
   }
 
-  private void writeAgentResource(Resource agent, BNode agentNode, ModelBuilder modelBuilder, ResourceMapping mapping) {
-    var agentMapping = getEdgeMapping(mapping.getResourceMapping(), AGENT_EDGE_NUMBER);
-    writeBlankNode(agentNode, agent, modelBuilder, agentMapping, coreLd2RdfMapper);
+  private void writeAgentResource(Resource agent, BNode agentNode, ModelBuilder modelBuilder,
+                                  ResourceMappingPlan plan) {
+    var agentPlan = getEdgePlan(plan, AGENT_EDGE_NUMBER);
+    writeBlankNode(agentNode, agent, modelBuilder, agentPlan, coreLd2RdfMapper);
     writeExtraTypes(modelBuilder, agent, agentNode);
   }
 
@@ -3,7 +3,6 @@ package org.folio.rdf4ld.mapper.unit.monograph.agent;
 import static org.folio.ld.dictionary.PredicateDictionary.CREATOR;
 
 import java.util.function.LongFunction;
-import org.folio.ld.fingerprint.service.FingerprintHashService;
 import org.folio.rdf4ld.mapper.core.CoreLd2RdfMapper;
 import org.folio.rdf4ld.mapper.unit.BaseRdfMapperUnit;
 import org.folio.rdf4ld.mapper.unit.RdfMapperDefinition;
@@ -16,9 +15,8 @@ public class CreatorRdfMapperUnit extends AgentRdfMapperUnit {
 
   public CreatorRdfMapperUnit(LongFunction<String> resourceUrlProvider,
                               CoreLd2RdfMapper coreLd2RdfMapper,
-                              FingerprintHashService hashService,
                               BaseRdfMapperUnit baseRdfMapperUnit,
                               MockLccnResourceService mockLccnResourceService) {
-    super(coreLd2RdfMapper, hashService, baseRdfMapperUnit, resourceUrlProvider, mockLccnResourceService);
+    super(CREATOR, coreLd2RdfMapper, baseRdfMapperUnit, resourceUrlProvider, mockLccnResourceService);
   }
 }
@@ -7,7 +7,7 @@ import static org.folio.ld.dictionary.PredicateDictionary.SUB_FOCUS;
 import static org.folio.ld.dictionary.PropertyDictionary.LABEL;
 import static org.folio.ld.dictionary.ResourceTypeDictionary.CONCEPT;
 import static org.folio.ld.dictionary.ResourceTypeDictionary.MOCKED_RESOURCE;
-import static org.folio.rdf4ld.util.MappingUtil.getEdgeMapping;
+import static org.folio.rdf4ld.util.MappingUtil.getEdgePlan;
 import static org.folio.rdf4ld.util.MappingUtil.getEdgePredicate;
 import static org.folio.rdf4ld.util.MappingUtil.getEdgeTypeSet;
 import static org.folio.rdf4ld.util.RdfUtil.extractRdfList;
@@ -30,15 +30,14 @@ import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.eclipse.rdf4j.model.util.RDFCollections;
-import org.eclipse.rdf4j.model.util.Values;
-import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.folio.ld.dictionary.label.LabelGeneratorService;
 import org.folio.ld.dictionary.model.Resource;
 import org.folio.ld.dictionary.model.ResourceEdge;
 import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.mapper.context.MappingContext;
 import org.folio.rdf4ld.mapper.core.CoreLd2RdfMapper;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.folio.rdf4ld.mapper.unit.BaseRdfMapperUnit;
-import org.folio.rdf4ld.model.ResourceMapping;
 import org.folio.rdf4ld.service.lccn.MockLccnResourceService;
 import org.folio.rdf4ld.util.ResourceUtil;
 import org.springframework.stereotype.Component;
@@ -56,27 +55,27 @@ public class ComplexSubjectRdfMapperSubUnit {
   private final MockLccnResourceService mockLccnResourceService;
   private final LabelGeneratorService labelGeneratorService;
 
-  public Optional<Resource> readComplexSubject(Model model,
+  public Optional<Resource> readComplexSubject(MappingContext context,
                                                org.eclipse.rdf4j.model.Resource resource,
-                                               ResourceMapping resourceMapping,
+                                               ResourceMappingPlan plan,
                                                Resource parent) {
-    var components = getComponentList(model, resource, resourceMapping);
+    var components = getComponentList(context.getModel(), resource, plan);
     if (components.isEmpty() || components.size() < 2) {
       log.debug("ComplexSubject with invalid component list (empty or single element), skipping. Resource: {}",
         resource);
       return Optional.empty();
     }
 
-    var componentMapping = getEdgeMapping(resourceMapping.getResourceMapping(), COMPONENT_LIST_EDGE_NUMBER);
+    var componentPlan = getEdgePlan(plan, COMPONENT_LIST_EDGE_NUMBER);
 
-    var focus = processComponentResource(model, components.getFirst(), componentMapping, parent);
+    var focus = processComponentResource(context, components.getFirst(), componentPlan, parent);
     if (focus == null || focus.isOfType(CONCEPT)) {
       log.debug("ComplexSubject focus is invalid (null or CONCEPT), skipping. Resource: {}", resource);
       return Optional.empty();
     }
 
     var subFocuses = components.subList(1, components.size()).stream()
-      .map(subFocusRes -> processComponentResource(model, subFocusRes, componentMapping, parent))
+      .map(subFocusRes -> processComponentResource(context, subFocusRes, componentPlan, parent))
       .filter(sf -> sf != null && !sf.isOfType(CONCEPT))
       .toList();
 
@@ -85,13 +84,13 @@ public class ComplexSubjectRdfMapperSubUnit {
       return Optional.empty();
     }
 
-    return Optional.of(createConceptFromComponents(focus, subFocuses));
+    return Optional.of(context.markDirty(createConceptFromComponents(focus, subFocuses)));
   }
 
   private List<org.eclipse.rdf4j.model.Resource> getComponentList(Model model,
                                                                   org.eclipse.rdf4j.model.Resource resource,
-                                                                  ResourceMapping resourceMapping) {
-    var componentListPredicate = getEdgePredicate(resourceMapping.getResourceMapping(), COMPONENT_LIST_EDGE_NUMBER);
+                                                                  ResourceMappingPlan plan) {
+    var componentListPredicate = getEdgePredicate(plan, COMPONENT_LIST_EDGE_NUMBER);
     return getByPredicate(model, resource, componentListPredicate)
       .filter(Value::isResource)
       .map(org.eclipse.rdf4j.model.Resource.class::cast)
@@ -100,12 +99,12 @@ public class ComplexSubjectRdfMapperSubUnit {
       .orElse(List.of());
   }
 
-  private Resource processComponentResource(Model model,
+  private Resource processComponentResource(MappingContext context,
                                             org.eclipse.rdf4j.model.Resource componentResource,
-                                            ResourceMapping componentMapping,
+                                            ResourceMappingPlan componentPlan,
                                             Resource parent) {
-    var mappedOpt = baseRdfMapperUnit.mapToLd(model, componentResource, componentMapping, parent)
-      .map(mapped -> ResourceUtil.enrichResource(mapped, model, componentResource, hashService));
+    var mappedOpt = baseRdfMapperUnit.mapToLd(context, componentResource, componentPlan, parent)
+      .map(mapped -> ResourceUtil.enrichResource(mapped, context, componentResource));
 
     if (componentResource instanceof IRI iri) {
       return mockLccnResourceService.mockLccnResource(mappedOpt.orElse(null), iri.getLocalName());
@@ -124,7 +123,8 @@ public class ComplexSubjectRdfMapperSubUnit {
       .filter(re -> re.getPredicate() == SUB_FOCUS)
       .map(ResourceEdge::getTarget)
       .toList();
-    return createConceptFromComponents(focus, subFocuses);
+    var concept = createConceptFromComponents(focus, subFocuses);
+    return concept.setId(hashService.hash(concept));
   }
 
   private Resource createConceptFromComponents(Resource focus, List<Resource> subFocuses) {
@@ -143,25 +143,24 @@ public class ComplexSubjectRdfMapperSubUnit {
     var label = labelGeneratorService.getLabel(concept);
     concept.setLabel(label);
     addProperty(concept.getDoc(), LABEL, label);
-    concept.setId(hashService.hash(concept));
     return concept;
   }
 
   public void writeComplexSubject(Resource subject,
                                   ModelBuilder modelBuilder,
-                                  ResourceMapping mapping,
+                                  ResourceMappingPlan plan,
                                   org.eclipse.rdf4j.model.Resource parent) {
     var complexSubjectNode = bnode("_" + subject.getId());
-    var complexSubjectMapping = getEdgeMapping(mapping.getResourceMapping(), 0);
-    linkResources(parent, complexSubjectNode, mapping.getBfResourceDef().getPredicate(), modelBuilder);
-    writeBlankNode(complexSubjectNode, subject, modelBuilder, complexSubjectMapping, coreLd2RdfMapper);
+    var complexSubjectPlan = getEdgePlan(plan, 0);
+    linkResources(parent, complexSubjectNode, plan.getBfResource().getPredicate(), modelBuilder);
+    writeBlankNode(complexSubjectNode, subject, modelBuilder, complexSubjectPlan, coreLd2RdfMapper);
     writeExtraTypes(modelBuilder, subject, complexSubjectNode);
-    writeComponentsList(subject, modelBuilder, mapping, complexSubjectNode);
+    writeComponentsList(subject, modelBuilder, plan, complexSubjectNode);
   }
 
   private void writeComponentsList(Resource subject,
                                    ModelBuilder modelBuilder,
-                                   ResourceMapping mapping,
+                                   ResourceMappingPlan plan,
                                    BNode complexSubjectNode) {
     var components = subject.getOutgoingEdges().stream()
       .filter(oe -> oe.getPredicate() == FOCUS || oe.getPredicate() == SUB_FOCUS)
@@ -170,20 +169,23 @@ public class ComplexSubjectRdfMapperSubUnit {
         .map(iri -> (org.eclipse.rdf4j.model.Resource) iri(iri))
         .orElseGet(() -> {
           var nodeId = "_" + f.getId();
-          var bnode = writeBlankNode(bnode(nodeId), f, modelBuilder, mapping, coreLd2RdfMapper);
+          var bnode = writeBlankNode(bnode(nodeId), f, modelBuilder, plan, coreLd2RdfMapper);
           writeExtraTypes(modelBuilder, f, bnode(nodeId));
           return bnode;
         }))
       .toList();
     var listHead = bnode();
     RDFCollections.asRDF(components, listHead, modelBuilder.build());
-    var complexSubjectMapping = getEdgeMapping(mapping.getResourceMapping(), 0);
-    var componentListPredicate = complexSubjectMapping.getBfResourceDef().getPredicate();
+    var complexSubjectPlan = getEdgePlan(plan, 0);
+    var componentListPredicate = complexSubjectPlan.getBfResource().getPredicate();
     modelBuilder.add(complexSubjectNode, iri(componentListPredicate), listHead);
   }
 
-  public boolean isComplexSubject(Model model, org.eclipse.rdf4j.model.Resource resource, ResourceMapping mapping) {
-    var complexSubjectTypes = getEdgeTypeSet(mapping.getResourceMapping(), COMPONENT_LIST_EDGE_NUMBER);
-    return complexSubjectTypes.stream().anyMatch(type -> model.contains(resource, RDF.TYPE, Values.iri(type)));
+  public boolean isComplexSubject(MappingContext context,
+                                  org.eclipse.rdf4j.model.Resource resource,
+                                  ResourceMappingPlan plan) {
+    var complexSubjectTypes = getEdgeTypeSet(plan, COMPONENT_LIST_EDGE_NUMBER);
+    var types = context.getTypes(resource);
+    return complexSubjectTypes.stream().anyMatch(types::contains);
   }
 }
@@ -11,14 +11,14 @@ import java.util.Optional;
 import java.util.function.LongFunction;
 import lombok.RequiredArgsConstructor;
 import org.eclipse.rdf4j.model.IRI;
-import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.folio.ld.dictionary.model.Resource;
 import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.mapper.context.MappingContext;
 import org.folio.rdf4ld.mapper.core.CoreLd2RdfMapper;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.folio.rdf4ld.mapper.unit.BaseRdfMapperUnit;
 import org.folio.rdf4ld.mapper.unit.RdfMapperUnit;
-import org.folio.rdf4ld.model.ResourceMapping;
 import org.folio.rdf4ld.service.lccn.MockLccnResourceService;
 import org.folio.rdf4ld.util.ResourceUtil;
 
@@ -31,12 +31,12 @@ public abstract class ReferenceRdfMapperUnit implements RdfMapperUnit {
   protected final CoreLd2RdfMapper coreLd2RdfMapper;
 
   @Override
-  public Optional<Resource> mapToLd(Model model,
+  public Optional<Resource> mapToLd(MappingContext context,
                                     org.eclipse.rdf4j.model.Resource resource,
-                                    ResourceMapping mapping,
+                                    ResourceMappingPlan plan,
                                     Resource parent) {
-    var mappedOptional = baseRdfMapperUnit.mapToLd(model, resource, mapping, parent)
-      .map(mapped -> ResourceUtil.enrichResource(mapped, model, resource, hashService));
+    var mappedOptional = baseRdfMapperUnit.mapToLd(context, resource, plan, parent)
+      .map(mapped -> ResourceUtil.enrichResource(mapped, context, resource));
     if (resource instanceof IRI iri) {
       mappedOptional = of(mockLccnResourceService.mockLccnResource(mappedOptional.orElse(null), iri.getLocalName()));
     }
@@ -46,16 +46,16 @@ public abstract class ReferenceRdfMapperUnit implements RdfMapperUnit {
   @Override
   public void mapToBibframe(Resource reference,
                             ModelBuilder modelBuilder,
-                            ResourceMapping mapping,
+                            ResourceMappingPlan plan,
                             Resource parent) {
     var parentIri = iri(resourceUrlProvider.apply(parent.getId()));
-    var predicate = mapping.getBfResourceDef().getPredicate();
+    var predicate = plan.getBfResource().getPredicate();
     getCurrentIdentifierLink(reference)
       .ifPresentOrElse(link -> linkResources(parentIri, iri(link), predicate, modelBuilder),
         () -> {
           var node = bnode("_" + reference.getId());
           linkResources(parentIri, node, predicate, modelBuilder);
-          writeBlankNode(node, reference, modelBuilder, mapping, coreLd2RdfMapper);
+          writeBlankNode(node, reference, modelBuilder, plan, coreLd2RdfMapper);
         }
       );
   }
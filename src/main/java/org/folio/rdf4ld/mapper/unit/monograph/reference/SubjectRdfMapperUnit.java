@@ -19,16 +19,16 @@ import static org.folio.rdf4ld.util.ResourceUtil.getCurrentIdentifierLink;
 import java.util.Optional;
 import java.util.function.LongFunction;
 import lombok.extern.log4j.Log4j2;
-import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.folio.ld.dictionary.label.LabelGeneratorService;
 import org.folio.ld.dictionary.model.Resource;
 import org.folio.ld.dictionary.model.ResourceEdge;
 import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.mapper.context.MappingContext;
 import org.folio.rdf4ld.mapper.core.CoreLd2RdfMapper;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.folio.rdf4ld.mapper.unit.BaseRdfMapperUnit;
 import org.folio.rdf4ld.mapper.unit.RdfMapperDefinition;
-import org.folio.rdf4ld.model.ResourceMapping;
 import org.folio.rdf4ld.service.lccn.MockLccnResourceService;
 import org.springframework.stereotype.Component;
 
@@ -53,15 +53,15 @@ public class SubjectRdfMapperUnit extends ReferenceRdfMapperUnit {
   }
 
   @Override
-  public Optional<Resource> mapToLd(Model model,
+  public Optional<Resource> mapToLd(MappingContext context,
                                     org.eclipse.rdf4j.model.Resource resource,
-                                    ResourceMapping resourceMapping,
+                                    ResourceMappingPlan plan,
                                     Resource parent) {
-    if (complexSubjectRdfMapperSubUnit.isComplexSubject(model, resource, resourceMapping)) {
-      return complexSubjectRdfMapperSubUnit.readComplexSubject(model, resource, resourceMapping, parent);
+    if (complexSubjectRdfMapperSubUnit.isComplexSubject(context, resource, plan)) {
+      return complexSubjectRdfMapperSubUnit.readComplexSubject(context, resource, plan, parent);
     }
-    return super.mapToLd(model, resource, resourceMapping, parent)
-      .map(subject -> isConceptOrMock(subject) ? subject : wrapWithConcept(subject));
+    return super.mapToLd(context, resource, plan, parent)
+      .map(subject -> isConceptOrMock(subject) ? subject : context.markDirty(wrapWithConcept(subject)));
   }
 
   @Override
@@ -72,7 +72,8 @@ public class SubjectRdfMapperUnit extends ReferenceRdfMapperUnit {
     if (subject.isOfType(CONCEPT)) {
       return complexSubjectRdfMapperSubUnit.enrichConceptFromComponents(subject);
     }
-    return wrapWithConcept(subject);
+    var concept = wrapWithConcept(subject);
+    return concept.setId(hashService.hash(concept));
   }
 
   private boolean isConceptOrMock(Resource subject) {
@@ -88,17 +89,16 @@ public class SubjectRdfMapperUnit extends ReferenceRdfMapperUnit {
     var label = labelGeneratorService.getLabel(concept);
     concept.setLabel(label);
     addProperty(concept.getDoc(), LABEL, label);
-    concept.setId(hashService.hash(concept));
     return concept;
   }
 
   @Override
   public void mapToBibframe(Resource subject,
                             ModelBuilder modelBuilder,
-                            ResourceMapping mapping,
+                            ResourceMappingPlan plan,
                             Resource parent) {
     var parentIri = iri(resourceUrlProvider.apply(parent.getId()));
-    var predicate = mapping.getBfResourceDef().getPredicate();
+    var predicate = plan.getBfResource().getPredicate();
 
     var conceptIdentifierLink = getCurrentIdentifierLink(subject);
     if (conceptIdentifierLink.isPresent()) {
@@ -110,27 +110,27 @@ public class SubjectRdfMapperUnit extends ReferenceRdfMapperUnit {
       .anyMatch(oe -> oe.getPredicate() == SUB_FOCUS);
 
     if (hasSubFocus) {
-      complexSubjectRdfMapperSubUnit.writeComplexSubject(subject, modelBuilder, mapping, parentIri);
+      complexSubjectRdfMapperSubUnit.writeComplexSubject(subject, modelBuilder, plan, parentIri);
     } else {
       subject.getOutgoingEdges()
         .stream()
         .filter(oe -> oe.getPredicate() == FOCUS)
         .map(ResourceEdge::getTarget)
-        .forEach(resource -> writeSingleSubject(resource, modelBuilder, mapping, parentIri));
+        .forEach(resource -> writeSingleSubject(resource, modelBuilder, plan, parentIri));
     }
   }
 
   private void writeSingleSubject(Resource subject,
                                   ModelBuilder modelBuilder,
-                                  ResourceMapping mapping,
+                                  ResourceMappingPlan plan,
                                   org.eclipse.rdf4j.model.Resource parent) {
-    var predicate = mapping.getBfResourceDef().getPredicate();
+    var predicate = plan.getBfResource().getPredicate();
     getCurrentIdentifierLink(subject)
       .ifPresentOrElse(link -> linkResources(parent, iri(link), predicate, modelBuilder),
         () -> {
           var node = bnode("_" + subject.getId());
           linkResources(parent, node, predicate, modelBuilder);
-          writeBlankNode(node, subject, modelBuilder, mapping, coreLd2RdfMapper);
+          writeBlankNode(node, subject, modelBuilder, plan, coreLd2RdfMapper);
           writeExtraTypes(modelBuilder, subject, node);
         }
       );
@@ -4,23 +4,21 @@ import static org.eclipse.rdf4j.model.util.Values.iri;
 import static org.folio.ld.dictionary.PredicateDictionary.TITLE;
 import static org.folio.ld.dictionary.PropertyDictionary.VARIANT_TYPE;
 import static org.folio.ld.dictionary.ResourceTypeDictionary.VARIANT_TITLE;
-import static org.folio.rdf4ld.util.RdfUtil.getAllTypes;
 import static org.folio.rdf4ld.util.ResourceUtil.addProperty;
 
 import com.google.common.collect.ImmutableBiMap;
 import java.util.Optional;
 import java.util.function.LongFunction;
 import lombok.RequiredArgsConstructor;
-import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.folio.ld.dictionary.model.Resource;
-import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.mapper.context.MappingContext;
+import org.folio.rdf4ld.mapper.plan.PropertyMappingPlan;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.folio.rdf4ld.mapper.unit.BaseRdfMapperUnit;
 import org.folio.rdf4ld.mapper.unit.RdfMapperDefinition;
 import org.folio.rdf4ld.mapper.unit.RdfMapperUnit;
-import org.folio.rdf4ld.model.PropertyMapping;
-import org.folio.rdf4ld.model.ResourceMapping;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -37,19 +35,17 @@ public class VariantTitleRdfMapperUnit implements RdfMapperUnit {
     .put("http://id.loc.gov/vocabulary/vartitletype/run", "7")
     .put("http://id.loc.gov/vocabulary/vartitletype/spi", "8")
     .build();
-  private final FingerprintHashService hashService;
   private final BaseRdfMapperUnit baseRdfMapperUnit;
   private final LongFunction<String> resourceUrlProvider;
 
   @Override
-  public Optional<Resource> mapToLd(Model model,
+  public Optional<Resource> mapToLd(MappingContext context,
                                     org.eclipse.rdf4j.model.Resource resource,
-                                    ResourceMapping resourceMapping,
+                                    ResourceMappingPlan plan,
                                     Resource parent) {
-    return baseRdfMapperUnit.mapToLd(model, resource, resourceMapping, parent)
+    return baseRdfMapperUnit.mapToLd(context, resource, plan, parent)
       .map(variantTitle -> {
-        mapVariantTypeToProperty(model, variantTitle, resource);
-        variantTitle.setId(hashService.hash(variantTitle));
+        mapVariantTypeToProperty(context, variantTitle, resource);
         return variantTitle;
       });
   }
@@ -57,21 +53,20 @@ public class VariantTitleRdfMapperUnit implements RdfMapperUnit {
   @Override
   public void mapToBibframe(Resource resource,
                             ModelBuilder modelBuilder,
-                            ResourceMapping mapping,
+                            ResourceMappingPlan plan,
                             Resource parent) {
-    baseRdfMapperUnit.mapToBibframe(resource, modelBuilder, mapping, parent);
+    baseRdfMapperUnit.mapToBibframe(resource, modelBuilder, plan, parent);
     addVariantTypes(resource, modelBuilder);
-    removeVariantTypeProperty(modelBuilder, mapping, resource.getId());
+    removeVariantTypeProperty(modelBuilder, plan, resource.getId());
   }
 
-  private void mapVariantTypeToProperty(Model model, Resource variantTitle,
+  private void mapVariantTypeToProperty(MappingContext context, Resource variantTitle,
                                         org.eclipse.rdf4j.model.Resource rdfResource) {
-    getAllTypes(model, rdfResource)
+    context.getTypes(rdfResource)
       .stream()
       .filter(TYPES_BI_MAP::containsKey)
       .map(TYPES_BI_MAP::get)
       .forEach(type -> addProperty(variantTitle.getDoc(), VARIANT_TYPE, type));
-    variantTitle.setId(hashService.hash(variantTitle));
   }
 
   private void addVariantTypes(Resource resource, ModelBuilder modelBuilder) {
@@ -87,13 +82,13 @@ public class VariantTitleRdfMapperUnit implements RdfMapperUnit {
     }
   }
 
-  private void removeVariantTypeProperty(ModelBuilder modelBuilder, ResourceMapping mapping, Long id) {
-    mapping.getResourceMapping().getProperties()
+  private void removeVariantTypeProperty(ModelBuilder modelBuilder, ResourceMappingPlan plan, Long id) {
+    plan.getProperties()
       .stream()
       .filter(pm -> pm.getLdProperty() == VARIANT_TYPE)
-      .map(PropertyMapping::getBfProperty)
+      .map(PropertyMappingPlan::getBfPropertyIri)
       .findFirst()
-      .ifPresent(bfp -> modelBuilder.build().remove(iri(resourceUrlProvider.apply(id)), iri(bfp), null));
+      .ifPresent(bfp -> modelBuilder.build().remove(iri(resourceUrlProvider.apply(id)), bfp, null));
   }
 
 }
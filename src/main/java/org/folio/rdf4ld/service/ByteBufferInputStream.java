@@ -0,0 +1,28 @@
+package org.folio.rdf4ld.service;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads the remaining bytes of a buffer without copying them, advancing the position of the buffer.
+ */
+@RequiredArgsConstructor
+final class ByteBufferInputStream extends InputStream {
+  private final ByteBuffer buffer;
+
+  @Override
+  public int read() {
+    return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) {
+    if (!buffer.hasRemaining()) {
+      return -1;
+    }
+    var count = Math.min(length, buffer.remaining());
+    buffer.get(bytes, offset, count);
+    return count;
+  }
+}
@@ -0,0 +1,97 @@
+package org.folio.rdf4ld.service;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.BasicParserSettings;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+
+/**
+ * Parses N-Triples and N-Quads files on several cores. The file is memory-mapped and split into chunks at line
+ * boundaries, every chunk is parsed by its own parser into its own statement buffer, and the buffers are merged into
+ * one model. Blank node labels are preserved, so a node referenced from several chunks stays one node.
+ */
+@RequiredArgsConstructor
+final class ChunkedRdfParser {
+  static final long MIN_CHUNK_SIZE = 1L << 20;
+  private static final long MAX_CHUNK_SIZE = Integer.MAX_VALUE / 2;
+  private static final int SCAN_BUFFER_SIZE = 8192;
+  private final int chunks;
+  private final long minChunkSize;
+
+  static ChunkedRdfParser ofAvailableProcessors() {
+    return new ChunkedRdfParser(Runtime.getRuntime().availableProcessors(), MIN_CHUNK_SIZE);
+  }
+
+  /**
+   * Parses the line based file, IO errors are thrown as {@link UncheckedIOException}.
+   */
+  Model parse(Path file, RDFFormat format) {
+    try (var channel = FileChannel.open(file, READ)) {
+      var buffers = split(channel).parallelStream()
+        .map(chunk -> parseChunk(chunk, format))
+        .toList();
+      var model = new LinkedHashModel(buffers.stream().mapToInt(Collection::size).sum());
+      buffers.forEach(model::addAll);
+      return model;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private List<ByteBuffer> split(FileChannel channel) throws IOException {
+    var size = channel.size();
+    var chunkSize = Math.min(MAX_CHUNK_SIZE, Math.max(minChunkSize, size / chunks + 1));
+    var result = new ArrayList<ByteBuffer>();
+    var start = 0L;
+    while (start < size) {
+      var end = lineEnd(channel, Math.min(size, start + chunkSize), size);
+      result.add(channel.map(READ_ONLY, start, end - start));
+      start = end;
+    }
+    return result;
+  }
+
+  private long lineEnd(FileChannel channel, long position, long size) throws IOException {
+    var buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+    var current = position;
+    while (current < size) {
+      buffer.clear();
+      var read = channel.read(buffer, current);
+      for (var i = 0; i < read; i++) {
+        if (buffer.get(i) == '\n') {
+          return current + i + 1;
+        }
+      }
+      current += read;
+    }
+    return size;
+  }
+
+  private Collection<Statement> parseChunk(ByteBuffer chunk, RDFFormat format) {
+    var parser = Rio.createParser(format);
+    parser.getParserConfig().set(BasicParserSettings.PRESERVE_BNODE_IDS, true);
+    var collector = new StatementCollector();
+    parser.setRDFHandler(collector);
+    try {
+      parser.parse(new ByteBufferInputStream(chunk), "");
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return collector.getStatements();
+  }
+}
@@ -0,0 +1,180 @@
+package org.folio.rdf4ld.service;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.eclipse.rdf4j.model.util.Values.bnode;
+import static org.eclipse.rdf4j.model.util.Values.iri;
+import static org.eclipse.rdf4j.model.util.Values.literal;
+import static org.folio.rdf4ld.util.JsonUtil.getJsonMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Reads flat expanded JSON-LD, as exported by Bibframe editors, straight into statements with a streaming parser.
+ * The document must be an array of node objects with absolute IRIs or blank node labels as ids and absolute IRIs as
+ * property names, whose values are node references or string value objects. Anything else, such as a context, lists
+ * or nested nodes, is left to the general JSON-LD parser. The statements are the ones of the general parser, added
+ * sorted by subject and then by property as in JSON-LD to RDF conversion.
+ */
+final class ExpandedJsonLdReader {
+  private static final String ID = "@id";
+  private static final String TYPE = "@type";
+  private static final String VALUE = "@value";
+  private static final String LANGUAGE = "@language";
+  private static final String BLANK_NODE_PREFIX = "_:";
+  private final JsonMapper jsonMapper = getJsonMapper();
+
+  /**
+   * Returns the model of the document, or empty if the document is not flat expanded JSON-LD or not valid JSON.
+   */
+  Optional<Model> read(byte[] input) {
+    try (var parser = jsonMapper.createParser(input)) {
+      if (parser.nextToken() != JsonToken.START_ARRAY) {
+        return Optional.empty();
+      }
+      var nodes = new TreeMap<String, Map<String, List<Value>>>();
+      var blankNodes = new HashMap<String, BNode>();
+      while (parser.nextToken() == JsonToken.START_OBJECT) {
+        readNode(parser, nodes, blankNodes);
+      }
+      if (parser.currentToken() != JsonToken.END_ARRAY || nonNull(parser.nextToken())) {
+        return Optional.empty();
+      }
+      return Optional.of(toModel(nodes, blankNodes));
+    } catch (NotFlatException | JacksonException | IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  private void readNode(JsonParser parser, Map<String, Map<String, List<Value>>> nodes,
+                        Map<String, BNode> blankNodes) {
+    String id = null;
+    var properties = new TreeMap<String, List<Value>>();
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      var key = parser.currentName();
+      parser.nextToken();
+      if (ID.equals(key)) {
+        id = readId(parser);
+      } else if (TYPE.equals(key)) {
+        var types = properties.computeIfAbsent(TYPE, k -> new ArrayList<>());
+        readArray(parser, () -> types.add(iri(readIri(parser))));
+      } else if (isAbsoluteIri(key)) {
+        var values = properties.computeIfAbsent(key, k -> new ArrayList<>());
+        readArray(parser, () -> values.add(readValue(parser, blankNodes)));
+      } else {
+        throw NotFlatException.INSTANCE;
+      }
+    }
+    if (isNull(id)) {
+      throw NotFlatException.INSTANCE;
+    }
+    var node = nodes.computeIfAbsent(id, k -> new TreeMap<>());
+    properties.forEach((property, values) -> node.computeIfAbsent(property, k -> new ArrayList<>()).addAll(values));
+  }
+
+  private void readArray(JsonParser parser, Runnable itemReader) {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      throw NotFlatException.INSTANCE;
+    }
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      itemReader.run();
+    }
+  }
+
+  private Value readValue(JsonParser parser, Map<String, BNode> blankNodes) {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      throw NotFlatException.INSTANCE;
+    }
+    String id = null;
+    String value = null;
+    String datatype = null;
+    String language = null;
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      var key = parser.currentName();
+      parser.nextToken();
+      switch (key) {
+        case ID -> id = readId(parser);
+        case VALUE -> value = readString(parser);
+        case TYPE -> datatype = readIri(parser);
+        case LANGUAGE -> language = readString(parser);
+        default -> throw NotFlatException.INSTANCE;
+      }
+    }
+    if (nonNull(id) && isNull(value) && isNull(datatype) && isNull(language)) {
+      return toResource(id, blankNodes);
+    }
+    if (isNull(id) && nonNull(value) && (isNull(datatype) || isNull(language))) {
+      if (nonNull(datatype)) {
+        return literal(value, iri(datatype));
+      }
+      return nonNull(language) ? literal(value, language) : literal(value);
+    }
+    throw NotFlatException.INSTANCE;
+  }
+
+  private String readId(JsonParser parser) {
+    var id = readString(parser);
+    if (!id.startsWith(BLANK_NODE_PREFIX) && !isAbsoluteIri(id)) {
+      throw NotFlatException.INSTANCE;
+    }
+    return id;
+  }
+
+  private String readIri(JsonParser parser) {
+    var iri = readString(parser);
+    if (!isAbsoluteIri(iri)) {
+      throw NotFlatException.INSTANCE;
+    }
+    return iri;
+  }
+
+  private String readString(JsonParser parser) {
+    if (parser.currentToken() != JsonToken.VALUE_STRING) {
+      throw NotFlatException.INSTANCE;
+    }
+    return parser.getString();
+  }
+
+  private boolean isAbsoluteIri(String value) {
+    return value.indexOf(':') > 0 && !value.startsWith(BLANK_NODE_PREFIX);
+  }
+
+  private Model toModel(Map<String, Map<String, List<Value>>> nodes, Map<String, BNode> blankNodes) {
+    var model = new LinkedHashModel();
+    nodes.forEach((id, properties) -> {
+      var subject = toResource(id, blankNodes);
+      properties.forEach((property, values) -> {
+        var predicate = TYPE.equals(property) ? RDF.TYPE : iri(property);
+        values.forEach(value -> model.add(subject, predicate, value));
+      });
+    });
+    return model;
+  }
+
+  private Resource toResource(String id, Map<String, BNode> blankNodes) {
+    return id.startsWith(BLANK_NODE_PREFIX) ? blankNodes.computeIfAbsent(id, k -> bnode()) : iri(id);
+  }
+
+  private static final class NotFlatException extends RuntimeException {
+    private static final NotFlatException INSTANCE = new NotFlatException();
+
+    private NotFlatException() {
+      super(null, null, false, false);
+    }
+  }
+}
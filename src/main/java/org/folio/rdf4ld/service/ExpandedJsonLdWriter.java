@@ -0,0 +1,113 @@
+package org.folio.rdf4ld.service;
+
+import static org.folio.rdf4ld.util.JsonUtil.getJsonMapper;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.rio.WriterConfig;
+import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
+import org.eclipse.rdf4j.rio.helpers.JSONLDMode;
+import org.eclipse.rdf4j.rio.helpers.JSONLDSettings;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * Writes a model as flat expanded JSON-LD straight to an output with a streaming generator, one node object per
+ * subject in the order of the model, without the buffering, compaction and framing of the general JSON-LD writer.
+ * It writes the graph the general writer does for the default graph and the expanded mode.
+ */
+final class ExpandedJsonLdWriter {
+  private static final String ID = "@id";
+  private static final String TYPE = "@type";
+  private static final String VALUE = "@value";
+  private static final String LANGUAGE = "@language";
+  private static final String BLANK_NODE_PREFIX = "_:";
+  private final ObjectWriter writer = getJsonMapper().writer().without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+  private final ObjectWriter prettyWriter = writer.withDefaultPrettyPrinter();
+
+  /**
+   * Tells whether the model can be written by this writer with the given config, which requires the expanded mode
+   * without native types or rdf:type properties and statements of the default graph only.
+   */
+  boolean supports(Model model, WriterConfig config) {
+    return config.get(JSONLDSettings.JSONLD_MODE) == JSONLDMode.EXPAND
+      && !config.get(JSONLDSettings.USE_NATIVE_TYPES)
+      && !config.get(JSONLDSettings.USE_RDF_TYPE)
+      && model.contexts().stream().allMatch(Objects::isNull);
+  }
+
+  /**
+   * Writes the model to the output, which is left open.
+   */
+  void write(Model model, OutputStream output, WriterConfig config) {
+    var nodes = new LinkedHashMap<Resource, Map<IRI, List<Value>>>();
+    for (Statement st : model) {
+      nodes.computeIfAbsent(st.getSubject(), s -> new LinkedHashMap<>())
+        .computeIfAbsent(st.getPredicate(), p -> new ArrayList<>())
+        .add(st.getObject());
+    }
+    var objectWriter = config.get(BasicWriterSettings.PRETTY_PRINT) ? prettyWriter : writer;
+    try (var generator = objectWriter.createGenerator(output)) {
+      generator.writeStartArray();
+      nodes.forEach((subject, properties) -> writeNode(generator, subject, properties));
+      generator.writeEndArray();
+    }
+  }
+
+  private void writeNode(JsonGenerator generator, Resource subject, Map<IRI, List<Value>> properties) {
+    generator.writeStartObject();
+    generator.writeStringProperty(ID, toId(subject));
+    var types = properties.getOrDefault(RDF.TYPE, List.of());
+    var typesAsKeyword = !types.isEmpty() && types.stream().allMatch(Value::isIRI);
+    if (typesAsKeyword) {
+      generator.writeName(TYPE);
+      generator.writeStartArray();
+      types.forEach(type -> generator.writeString(type.stringValue()));
+      generator.writeEndArray();
+    }
+    properties.forEach((predicate, values) -> {
+      if (typesAsKeyword && RDF.TYPE.equals(predicate)) {
+        return;
+      }
+      generator.writeName(predicate.stringValue());
+      generator.writeStartArray();
+      values.forEach(value -> writeValue(generator, value));
+      generator.writeEndArray();
+    });
+    generator.writeEndObject();
+  }
+
+  private void writeValue(JsonGenerator generator, Value value) {
+    generator.writeStartObject();
+    if (value instanceof Literal literal) {
+      generator.writeStringProperty(VALUE, literal.getLabel());
+      var language = literal.getLanguage();
+      if (language.isPresent()) {
+        generator.writeStringProperty(LANGUAGE, language.get());
+      } else if (!XSD.STRING.equals(literal.getDatatype())) {
+        generator.writeStringProperty(TYPE, literal.getDatatype().stringValue());
+      }
+    } else {
+      generator.writeStringProperty(ID, toId((Resource) value));
+    }
+    generator.writeEndObject();
+  }
+
+  private String toId(Resource resource) {
+    return resource instanceof BNode bnode ? BLANK_NODE_PREFIX + bnode.getID() : resource.stringValue();
+  }
+}
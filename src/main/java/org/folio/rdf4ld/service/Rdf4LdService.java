@@ -2,10 +2,16 @@ package org.folio.rdf4ld.service;
 
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandler;
 import org.eclipse.rdf4j.rio.WriterConfig;
 import org.folio.ld.dictionary.model.Resource;
+import org.folio.rdf4ld.mapper.context.ResourcePool;
 import org.folio.rdf4ld.model.MappingProfile;
 
 public interface Rdf4LdService {
@@ -14,13 +20,81 @@ public interface Rdf4LdService {
 
   Set<Resource> mapBibframe2RdfToLd(InputStream inputStream, String contentType);
 
+  Set<Resource> mapBibframe2RdfToLd(InputStream inputStream, String contentType, ResourcePool pool);
+
+  /**
+   * Maps the records of the input with the Bibframe 2.0 profile one by one while the input is parsed. Records are
+   * told apart by named graph and the statements of a record must be contiguous, so inputs holding one named graph
+   * per record, such as N-Quads or TriG, are mapped in memory bounded by the largest record. Statements of the
+   * default graph make up a single record, so an input without named graphs, such as N-Triples or Turtle, is held
+   * in memory as a whole. The resources of each record are passed to the consumer as soon as the record is mapped.
+   */
+  void mapBibframe2RdfToLd(InputStream inputStream, String contentType, Consumer<Set<Resource>> recordConsumer);
+
+  /**
+   * Maps an RDF file with the Bibframe 2.0 profile. N-Triples and N-Quads files are memory-mapped and parsed on all
+   * cores in chunks split at line boundaries, files of other formats are parsed as a single stream.
+   */
+  Set<Resource> mapBibframe2RdfToLd(Path file, String contentType);
+
   ByteArrayOutputStream mapLdToRdf(Resource resource, RDFFormat rdfFormat, MappingProfile mappingProfile);
 
+  /**
+   * Writes the RDF of the resource straight to the output, which is left open.
+   */
+  void mapLdToRdf(Resource resource, RDFFormat rdfFormat, MappingProfile mappingProfile, OutputStream output);
+
+  /**
+   * Reports the RDF statements of the resource to the handler, between its start and end events.
+   */
+  void mapLdToRdf(Resource resource, MappingProfile mappingProfile, RDFHandler handler);
+
   ByteArrayOutputStream mapLdToBibframe2Rdf(Resource resource, RDFFormat rdfFormat);
 
   ByteArrayOutputStream mapLdToBibframe2Rdf(Resource resource, RDFFormat rdfFormat, WriterConfig outputConfig);
 
+  /**
+   * Writes the Bibframe 2.0 RDF of the resource straight to the output, which is left open.
+   */
+  void mapLdToBibframe2Rdf(Resource resource, RDFFormat rdfFormat, WriterConfig outputConfig, OutputStream output);
+
+  /**
+   * Writes the Bibframe 2.0 RDF of all the resources as a single document through one writer, the output is left
+   * open. Statements shared by several resources, such as the ones of a common Work or agent IRI, are written once.
+   * Blank nodes are kept apart per resource, so a blank node of one resource never takes statements of another.
+   * N-Triples and N-Quads are streamed resource by resource, other formats are written once all resources are mapped.
+   */
+  void mapLdToBibframe2Rdf(Iterable<Resource> resources, RDFFormat rdfFormat, OutputStream output);
+
+  /**
+   * Reports the Bibframe 2.0 RDF statements of the resource to the handler, between its start and end events.
+   */
+  void mapLdToBibframe2Rdf(Resource resource, RDFHandler handler);
+
   ByteArrayOutputStream mapLdToBibframe2Rdf(String input, RDFFormat rdfFormat);
 
   ByteArrayOutputStream mapLdToBibframe2Rdf(String input, RDFFormat rdfFormat, WriterConfig outputConfig);
+
+  /**
+   * Same as {@link #mapLdToBibframe2Rdf(String, RDFFormat, WriterConfig)} for the UTF-8 JSON of the resource, which
+   * is parsed from the bytes without decoding them to a string first.
+   */
+  ByteArrayOutputStream mapLdToBibframe2Rdf(byte[] input, RDFFormat rdfFormat, WriterConfig outputConfig);
+
+  /**
+   * Same as {@link #mapLdToBibframe2Rdf(byte[], RDFFormat, WriterConfig)} for the remaining bytes of the buffer,
+   * whose position is left unchanged.
+   */
+  ByteArrayOutputStream mapLdToBibframe2Rdf(ByteBuffer input, RDFFormat rdfFormat, WriterConfig outputConfig);
+
+  /**
+   * Same as {@link #mapLdToBibframe2Rdf(byte[], RDFFormat, WriterConfig)} for the JSON read from the stream.
+   */
+  ByteArrayOutputStream mapLdToBibframe2Rdf(InputStream input, RDFFormat rdfFormat, WriterConfig outputConfig);
+
+  /**
+   * Reads newline-delimited JSON of LD resources with a single parser, one resource at a time, and writes their
+   * Bibframe 2.0 RDF as in {@link #mapLdToBibframe2Rdf(Iterable, RDFFormat, OutputStream)}.
+   */
+  void mapNdJsonLdToBibframe2Rdf(InputStream input, RDFFormat rdfFormat, OutputStream output);
 }
@@ -1,20 +1,39 @@
 package org.folio.rdf4ld.service;
 
 import static java.util.Objects.isNull;
+import static org.eclipse.rdf4j.model.util.Statements.statement;
+import static org.eclipse.rdf4j.model.util.Values.bnode;
 import static org.folio.rdf4ld.util.JsonUtil.getJsonMapper;
 
+import com.google.common.collect.Streams;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.eclipse.rdf4j.model.BNode;
 import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
 import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandler;
 import org.eclipse.rdf4j.rio.RDFParseException;
 import org.eclipse.rdf4j.rio.Rio;
 import org.eclipse.rdf4j.rio.WriterConfig;
 import org.folio.ld.dictionary.model.Resource;
 import org.folio.rdf4ld.mapper.Rdf4LdMapper;
+import org.folio.rdf4ld.mapper.context.ResourcePool;
 import org.folio.rdf4ld.model.MappingProfile;
 import org.springframework.stereotype.Service;
 import tools.jackson.databind.json.JsonMapper;
@@ -23,8 +42,12 @@ import tools.jackson.databind.json.JsonMapper;
 @RequiredArgsConstructor
 public class Rdf4LdServiceImpl implements Rdf4LdService {
 
+  private static final Set<RDFFormat> LINE_BASED_FORMATS = Set.of(RDFFormat.NTRIPLES, RDFFormat.NQUADS);
   private final Rdf4LdMapper rdf4LdMapper;
   private final JsonMapper jsonMapper = getJsonMapper();
+  private final ExpandedJsonLdReader expandedJsonLdReader = new ExpandedJsonLdReader();
+  private final ExpandedJsonLdWriter expandedJsonLdWriter = new ExpandedJsonLdWriter();
+  private final ChunkedRdfParser chunkedRdfParser = ChunkedRdfParser.ofAvailableProcessors();
 
   @Override
   public Set<Resource> mapRdfToLd(InputStream input, String contentType, MappingProfile mappingProfile) {
@@ -38,22 +61,92 @@ public class Rdf4LdServiceImpl implements Rdf4LdService {
     return rdf4LdMapper.mapBibframe2RdfToLd(model);
   }
 
+  @Override
+  public Set<Resource> mapBibframe2RdfToLd(InputStream input, String contentType, ResourcePool pool) {
+    var model = readModel(input, contentType);
+    return rdf4LdMapper.mapBibframe2RdfToLd(model, pool);
+  }
+
+  @Override
+  public void mapBibframe2RdfToLd(InputStream input, String contentType, Consumer<Set<Resource>> recordConsumer) {
+    var parser = Rio.createParser(getFormat(input, contentType));
+    parser.setRDFHandler(new RecordSplittingRdfHandler(
+      record -> recordConsumer.accept(rdf4LdMapper.mapBibframe2RdfToLd(record))));
+    try {
+      parser.parse(input, "");
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Unreadable RDF data", e);
+    } catch (RDFParseException e) {
+      throw new IllegalArgumentException("RDF parsing error", e);
+    }
+  }
+
+  @Override
+  public Set<Resource> mapBibframe2RdfToLd(Path file, String contentType) {
+    var model = readModel(file, contentType);
+    return rdf4LdMapper.mapBibframe2RdfToLd(model);
+  }
+
   @Override
   public ByteArrayOutputStream mapLdToRdf(Resource resource, RDFFormat rdfFormat, MappingProfile mappingProfile) {
+    var out = new ByteArrayOutputStream();
+    mapLdToRdf(resource, rdfFormat, mappingProfile, out);
+    return out;
+  }
+
+  @Override
+  public void mapLdToRdf(Resource resource, RDFFormat rdfFormat, MappingProfile mappingProfile, OutputStream output) {
     var model = rdf4LdMapper.mapLdToRdf(resource, mappingProfile);
-    return writeModel(model, rdfFormat, new WriterConfig());
+    writeModel(model, output, rdfFormat, new WriterConfig());
+  }
+
+  @Override
+  public void mapLdToRdf(Resource resource, MappingProfile mappingProfile, RDFHandler handler) {
+    Rio.write(rdf4LdMapper.mapLdToRdf(resource, mappingProfile), handler);
   }
 
   @Override
   public ByteArrayOutputStream mapLdToBibframe2Rdf(Resource resource, RDFFormat rdfFormat) {
-    var model = rdf4LdMapper.mapLdToBibframe2Rdf(resource);
-    return writeModel(model, rdfFormat, new WriterConfig());
+    return mapLdToBibframe2Rdf(resource, rdfFormat, new WriterConfig());
   }
 
   @Override
   public ByteArrayOutputStream mapLdToBibframe2Rdf(Resource resource, RDFFormat rdfFormat, WriterConfig outputConfig) {
+    var out = new ByteArrayOutputStream();
+    mapLdToBibframe2Rdf(resource, rdfFormat, outputConfig, out);
+    return out;
+  }
+
+  @Override
+  public void mapLdToBibframe2Rdf(Resource resource, RDFFormat rdfFormat, WriterConfig outputConfig,
+                                  OutputStream output) {
     var model = rdf4LdMapper.mapLdToBibframe2Rdf(resource);
-    return writeModel(model, rdfFormat, outputConfig);
+    writeModel(model, output, rdfFormat, outputConfig);
+  }
+
+  @Override
+  public void mapLdToBibframe2Rdf(Iterable<Resource> resources, RDFFormat rdfFormat, OutputStream output) {
+    var index = new AtomicLong();
+    var statements = Streams.stream(resources)
+      .flatMap(resource -> withOwnBlankNodes(rdf4LdMapper.mapLdToBibframe2Rdf(resource), index.getAndIncrement()));
+    if (LINE_BASED_FORMATS.contains(rdfFormat)) {
+      var writer = Rio.createWriter(rdfFormat, output);
+      var written = new HashSet<Statement>();
+      writer.startRDF();
+      statements
+        .filter(st -> hasBlankNode(st) || written.add(st))
+        .forEach(writer::handleStatement);
+      writer.endRDF();
+    } else {
+      var model = new LinkedHashModel();
+      statements.forEach(model::add);
+      writeModel(model, output, rdfFormat, new WriterConfig());
+    }
+  }
+
+  @Override
+  public void mapLdToBibframe2Rdf(Resource resource, RDFHandler handler) {
+    Rio.write(rdf4LdMapper.mapLdToBibframe2Rdf(resource), handler);
   }
 
   @Override
@@ -68,17 +161,69 @@ public class Rdf4LdServiceImpl implements Rdf4LdService {
     return mapLdToBibframe2Rdf(resource, rdfFormat, outputConfig);
   }
 
-  private Model readModel(InputStream input, String contentType) {
-    if (isNull(input)) {
-      throw new IllegalArgumentException("Input stream is null");
+  @Override
+  public ByteArrayOutputStream mapLdToBibframe2Rdf(byte[] input, RDFFormat rdfFormat, WriterConfig outputConfig) {
+    var resource = jsonMapper.readValue(input, Resource.class);
+    return mapLdToBibframe2Rdf(resource, rdfFormat, outputConfig);
+  }
+
+  @Override
+  public ByteArrayOutputStream mapLdToBibframe2Rdf(ByteBuffer input, RDFFormat rdfFormat, WriterConfig outputConfig) {
+    var resource = input.hasArray()
+      ? jsonMapper.readValue(input.array(), input.arrayOffset() + input.position(), input.remaining(), Resource.class)
+      : jsonMapper.readValue(new ByteBufferInputStream(input.duplicate()), Resource.class);
+    return mapLdToBibframe2Rdf(resource, rdfFormat, outputConfig);
+  }
+
+  @Override
+  public ByteArrayOutputStream mapLdToBibframe2Rdf(InputStream input, RDFFormat rdfFormat, WriterConfig outputConfig) {
+    var resource = jsonMapper.readValue(input, Resource.class);
+    return mapLdToBibframe2Rdf(resource, rdfFormat, outputConfig);
+  }
+
+  @Override
+  public void mapNdJsonLdToBibframe2Rdf(InputStream input, RDFFormat rdfFormat, OutputStream output) {
+    try (var resources = jsonMapper.readerFor(Resource.class).<Resource>readValues(input)) {
+      mapLdToBibframe2Rdf(() -> resources, rdfFormat, output);
     }
+  }
 
-    var rdfFormat = Rio.getParserFormatForMIMEType(contentType)
-      .orElseThrow(() -> new IllegalArgumentException("Unsupported RDF format: " + contentType));
+  /**
+   * Blank node labels are only unique within the RDF of one resource, a contribution node is labelled after the agent
+   * for instance, so they are prefixed with the index of the resource in the batch. Statements with a blank node can
+   * then never be shared with another resource, and only the other ones need to be remembered for deduplication.
+   */
+  private static Stream<Statement> withOwnBlankNodes(Model model, long resourceIndex) {
+    var prefix = "r" + resourceIndex + "_";
+    return model.stream()
+      .map(st -> hasBlankNode(st)
+        ? statement(relabel(st.getSubject(), prefix), st.getPredicate(), relabel(st.getObject(), prefix),
+          st.getContext())
+        : st);
+  }
 
+  private static boolean hasBlankNode(Statement statement) {
+    return statement.getSubject().isBNode() || statement.getObject().isBNode();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V extends Value> V relabel(V value, String prefix) {
+    return value instanceof BNode bnode ? (V) bnode(prefix + bnode.getID()) : value;
+  }
+
+  private void writeModel(Model model, OutputStream output, RDFFormat rdfFormat, WriterConfig config) {
+    if (RDFFormat.JSONLD.equals(rdfFormat) && expandedJsonLdWriter.supports(model, config)) {
+      expandedJsonLdWriter.write(model, output, config);
+    } else {
+      Rio.write(model, output, rdfFormat, config);
+    }
+  }
+
+  private Model readModel(InputStream input, String contentType) {
+    var rdfFormat = getFormat(input, contentType);
     Model model;
     try {
-      model = Rio.parse(input, "", rdfFormat);
+      model = RDFFormat.JSONLD.equals(rdfFormat) ? readJsonLd(input) : Rio.parse(input, "", rdfFormat);
     } catch (IOException e) {
       throw new IllegalArgumentException("Unreadable RDF data", e);
     } catch (RDFParseException e) {
@@ -87,10 +232,44 @@ public class Rdf4LdServiceImpl implements Rdf4LdService {
     return model;
   }
 
-  private ByteArrayOutputStream writeModel(Model model, RDFFormat rdfFormat, WriterConfig outputConfig) {
-    var out = new ByteArrayOutputStream();
-    Rio.write(model, out, rdfFormat, outputConfig);
-    return out;
+  private Model readModel(Path file, String contentType) {
+    if (isNull(file)) {
+      throw new IllegalArgumentException("File is null");
+    }
+    var rdfFormat = getFormat(contentType);
+    try {
+      if (LINE_BASED_FORMATS.contains(rdfFormat)) {
+        return chunkedRdfParser.parse(file, rdfFormat);
+      }
+      try (var input = Files.newInputStream(file)) {
+        return readModel(input, contentType);
+      }
+    } catch (IOException | UncheckedIOException e) {
+      throw new IllegalArgumentException("Unreadable RDF data", e);
+    } catch (RDFParseException e) {
+      throw new IllegalArgumentException("RDF parsing error", e);
+    }
+  }
+
+  private Model readJsonLd(InputStream input) throws IOException {
+    var bytes = input.readAllBytes();
+    var flat = expandedJsonLdReader.read(bytes);
+    if (flat.isPresent()) {
+      return flat.get();
+    }
+    return Rio.parse(new ByteArrayInputStream(bytes), "", RDFFormat.JSONLD);
+  }
+
+  private RDFFormat getFormat(InputStream input, String contentType) {
+    if (isNull(input)) {
+      throw new IllegalArgumentException("Input stream is null");
+    }
+    return getFormat(contentType);
+  }
+
+  private RDFFormat getFormat(String contentType) {
+    return Rio.getParserFormatForMIMEType(contentType)
+      .orElseThrow(() -> new IllegalArgumentException("Unsupported RDF format: " + contentType));
   }
 
 }
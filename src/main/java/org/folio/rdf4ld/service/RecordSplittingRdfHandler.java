@@ -0,0 +1,47 @@
+package org.folio.rdf4ld.service;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+
+/**
+ * Splits a parsed RDF stream into records by named graph. The statements of a record must be contiguous:
+ * a record is complete as soon as a statement of another graph comes, and is then handed to the consumer and
+ * released. Statements of the default graph are collected as one record as well, so an input without named graphs
+ * ends up as a single record.
+ */
+final class RecordSplittingRdfHandler extends AbstractRDFHandler {
+  private final Consumer<Model> recordConsumer;
+  private Model record = new LinkedHashModel();
+  private Resource graph;
+
+  RecordSplittingRdfHandler(Consumer<Model> recordConsumer) {
+    this.recordConsumer = recordConsumer;
+  }
+
+  @Override
+  public void handleStatement(Statement st) {
+    if (!record.isEmpty() && !Objects.equals(graph, st.getContext())) {
+      flush();
+    }
+    graph = st.getContext();
+    record.add(st.getSubject(), st.getPredicate(), st.getObject());
+  }
+
+  @Override
+  public void endRDF() {
+    if (!record.isEmpty()) {
+      flush();
+    }
+  }
+
+  private void flush() {
+    var completed = record;
+    record = new LinkedHashModel();
+    recordConsumer.accept(completed);
+  }
+}
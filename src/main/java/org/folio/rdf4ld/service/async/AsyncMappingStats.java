@@ -0,0 +1,12 @@
+package org.folio.rdf4ld.service.async;
+
+/**
+ * Snapshot of the load of a {@link Rdf4LdAsyncService}.
+ *
+ * @param queued    conversions waiting for a thread
+ * @param inFlight  conversions running
+ * @param completed conversions finished since the start, successfully or not
+ * @param rejected  conversions rejected since the start because the queue was full
+ */
+public record AsyncMappingStats(int queued, int inFlight, long completed, long rejected) {
+}
@@ -0,0 +1,30 @@
+package org.folio.rdf4ld.service.async;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.rdf4ld.model.MappingProfile;
+
+/**
+ * Runs the conversions of {@link org.folio.rdf4ld.service.Rdf4LdService} on a bounded executor, so that callers are
+ * not blocked and bursts of input do not exceed a fixed number of running and waiting conversions. A conversion
+ * submitted while the queue is full is rejected or blocks the caller, depending on the configured overflow policy.
+ */
+public interface Rdf4LdAsyncService {
+
+  CompletableFuture<Set<Resource>> mapRdfToLd(InputStream input, String contentType, MappingProfile mappingProfile);
+
+  CompletableFuture<Set<Resource>> mapBibframe2RdfToLd(InputStream input, String contentType);
+
+  CompletableFuture<ByteArrayOutputStream> mapLdToRdf(Resource resource, RDFFormat rdfFormat,
+                                                      MappingProfile mappingProfile);
+
+  CompletableFuture<ByteArrayOutputStream> mapLdToBibframe2Rdf(Resource resource, RDFFormat rdfFormat);
+
+  CompletableFuture<ByteArrayOutputStream> mapLdToBibframe2Rdf(String input, RDFFormat rdfFormat);
+
+  AsyncMappingStats getStats();
+}
@@ -0,0 +1,179 @@
+package org.folio.rdf4ld.service.async;
+
+import static java.util.Objects.nonNull;
+
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.rdf4ld.config.AsyncMappingProperties;
+import org.folio.rdf4ld.config.AsyncMappingProperties.OverflowPolicy;
+import org.folio.rdf4ld.model.MappingProfile;
+import org.folio.rdf4ld.service.Rdf4LdService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * The executor is owned by the service rather than exposed as a bean, so that it does not replace the application
+ * task executor. Running and waiting conversions are bounded by permits taken before submission and released when
+ * their task leaves the executor, which keeps the overflow policy apart from the executor queue.
+ */
+@Log4j2
+@Service
+@ConditionalOnProperty(prefix = "rdf4ld.async", name = "enabled", havingValue = "true")
+public class Rdf4LdAsyncServiceImpl implements Rdf4LdAsyncService {
+
+  private final Rdf4LdService rdf4LdService;
+  private final OverflowPolicy overflowPolicy;
+  private final Semaphore permits;
+  private final ThreadPoolExecutor executor;
+  private final AtomicLong rejected = new AtomicLong();
+
+  public Rdf4LdAsyncServiceImpl(Rdf4LdService rdf4LdService, AsyncMappingProperties properties) {
+    this.rdf4LdService = rdf4LdService;
+    var concurrency = properties.concurrency() > 0
+      ? properties.concurrency()
+      : Runtime.getRuntime().availableProcessors();
+    var threadFactory = properties.virtualThreads()
+      ? Thread.ofVirtual().name("rdf4ld-async-", 0).factory()
+      : Thread.ofPlatform().name("rdf4ld-async-", 0).daemon(true).factory();
+    this.overflowPolicy = properties.overflowPolicy();
+    this.permits = new Semaphore(concurrency + properties.queueCapacity());
+    this.executor = new ThreadPoolExecutor(concurrency, concurrency, 1, TimeUnit.MINUTES,
+      new LinkedBlockingQueue<>(), threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+    log.info("Asynchronous conversions enabled, concurrency: {}, queue capacity: {}, overflow policy: {}",
+      concurrency, properties.queueCapacity(), overflowPolicy);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  @Override
+  public CompletableFuture<Set<Resource>> mapRdfToLd(InputStream input, String contentType,
+                                                     MappingProfile mappingProfile) {
+    return submit(input, in -> rdf4LdService.mapRdfToLd(in, contentType, mappingProfile));
+  }
+
+  @Override
+  public CompletableFuture<Set<Resource>> mapBibframe2RdfToLd(InputStream input, String contentType) {
+    return submit(input, in -> rdf4LdService.mapBibframe2RdfToLd(in, contentType));
+  }
+
+  @Override
+  public CompletableFuture<ByteArrayOutputStream> mapLdToRdf(Resource resource, RDFFormat rdfFormat,
+                                                             MappingProfile mappingProfile) {
+    return submit(() -> rdf4LdService.mapLdToRdf(resource, rdfFormat, mappingProfile));
+  }
+
+  @Override
+  public CompletableFuture<ByteArrayOutputStream> mapLdToBibframe2Rdf(Resource resource, RDFFormat rdfFormat) {
+    return submit(() -> rdf4LdService.mapLdToBibframe2Rdf(resource, rdfFormat));
+  }
+
+  @Override
+  public CompletableFuture<ByteArrayOutputStream> mapLdToBibframe2Rdf(String input, RDFFormat rdfFormat) {
+    return submit(() -> rdf4LdService.mapLdToBibframe2Rdf(input, rdfFormat));
+  }
+
+  @Override
+  public AsyncMappingStats getStats() {
+    return new AsyncMappingStats(executor.getQueue().size(), executor.getActiveCount(),
+      executor.getCompletedTaskCount(), rejected.get());
+  }
+
+  /**
+   * The input is read on the calling thread once a permit is taken, the caller may close it as soon as this method
+   * returns.
+   */
+  private <T> CompletableFuture<T> submit(InputStream input, Function<InputStream, T> conversion) {
+    try {
+      acquirePermit();
+    } catch (RejectedExecutionException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    byte[] bytes;
+    try {
+      bytes = input.readAllBytes();
+    } catch (IOException e) {
+      permits.release();
+      return CompletableFuture.failedFuture(new IllegalArgumentException("Unreadable RDF data", e));
+    }
+    return execute(() -> conversion.apply(new ByteArrayInputStream(bytes)));
+  }
+
+  private <T> CompletableFuture<T> submit(Supplier<T> conversion) {
+    try {
+      acquirePermit();
+    } catch (RejectedExecutionException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return execute(conversion);
+  }
+
+  private <T> CompletableFuture<T> execute(Supplier<T> conversion) {
+    var future = new CompletableFuture<T>();
+    try {
+      executor.execute(() -> run(conversion, future));
+    } catch (RejectedExecutionException e) {
+      permits.release();
+      return CompletableFuture.failedFuture(e);
+    }
+    return future;
+  }
+
+  /**
+   * The permit is released by the task itself when it leaves the executor, also when the future was cancelled while
+   * queued and the conversion is skipped, so that a cancelled future never keeps its permit. It is released before
+   * the future completes, so a caller submitting on completion finds its place free.
+   */
+  private <T> void run(Supplier<T> conversion, CompletableFuture<T> future) {
+    T result = null;
+    Throwable failure = null;
+    try {
+      if (!future.isDone()) {
+        result = conversion.get();
+      }
+    } catch (Throwable e) {
+      failure = e;
+    } finally {
+      permits.release();
+    }
+    if (nonNull(failure)) {
+      future.completeExceptionally(failure);
+    } else {
+      future.complete(result);
+    }
+  }
+
+  private void acquirePermit() {
+    if (overflowPolicy == OverflowPolicy.BLOCK) {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RejectedExecutionException("Interrupted while waiting for the queue", e);
+      }
+    } else if (!permits.tryAcquire()) {
+      var count = rejected.incrementAndGet();
+      log.warn("Conversion rejected, the queue is full. Rejected so far: {}", count);
+      throw new RejectedExecutionException("The queue of conversions is full");
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package org.folio.rdf4ld.service.fingerprint;
+
+import java.util.function.Function;
+import org.folio.ld.dictionary.model.Resource;
+
+/**
+ * Ids of the resources hashed by earlier mapping runs, so that recurring authorities like agents, places or
+ * subject components are not fingerprinted again in every record.
+ */
+public interface FingerprintCache {
+
+  /**
+   * Returns the id of a resource with the same types, label, doc and edges seen before, or computes it with the
+   * hasher. The ends of all the edges of the resource must already have their final ids.
+   */
+  Long get(Resource resource, Function<Resource, Long> hasher);
+
+  FingerprintCacheStats getStats();
+}
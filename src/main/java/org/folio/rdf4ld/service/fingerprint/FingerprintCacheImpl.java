@@ -0,0 +1,120 @@
+package org.folio.rdf4ld.service.fingerprint;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.extern.log4j.Log4j2;
+import org.folio.ld.dictionary.PredicateDictionary;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.rdf4ld.config.FingerprintCacheProperties;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Keeps the ids of resources by a 128-bit digest of their content: types, label, doc with the properties of every
+ * object in name order, and edges. Edge ends are taken by id only, which stands for their whole content as the ends
+ * are hashed first. The digest is taken when the id is computed, so later changes of the resource do not affect the
+ * kept entry. When the cache is disabled, every id is computed by the hasher.
+ */
+@Log4j2
+@Service
+public class FingerprintCacheImpl implements FingerprintCache {
+  private final Cache<ContentKey, Long> ids;
+
+  public FingerprintCacheImpl(FingerprintCacheProperties properties) {
+    this.ids = properties.enabled()
+      ? CacheBuilder.newBuilder().maximumSize(properties.maximumSize()).recordStats().build()
+      : null;
+    if (properties.enabled()) {
+      log.info("Fingerprint cache is enabled, maximum size: {}", properties.maximumSize());
+    }
+  }
+
+  @Override
+  public Long get(Resource resource, Function<Resource, Long> hasher) {
+    if (isNull(ids)) {
+      return hasher.apply(resource);
+    }
+    var key = ContentKey.of(resource);
+    var id = ids.getIfPresent(key);
+    if (nonNull(id)) {
+      return id;
+    }
+    id = hasher.apply(resource);
+    ids.put(key, id);
+    return id;
+  }
+
+  @Override
+  public FingerprintCacheStats getStats() {
+    if (isNull(ids)) {
+      return new FingerprintCacheStats(0, 0, 0, 0);
+    }
+    var stats = ids.stats();
+    return new FingerprintCacheStats(stats.hitCount(), stats.missCount(), stats.evictionCount(), ids.size());
+  }
+
+  private record ContentKey(long high, long low) {
+    private static final HashFunction DIGEST = Hashing.murmur3_128();
+
+    private static ContentKey of(Resource resource) {
+      var hasher = DIGEST.newHasher();
+      var types = resource.getTypes().stream().map(Enum::name).sorted().toList();
+      hasher.putInt(types.size());
+      types.forEach(type -> putString(hasher, type));
+      putString(hasher, resource.getLabel());
+      putNode(hasher, resource.getDoc());
+      var edges = Stream.concat(
+          resource.getOutgoingEdges().stream().map(e -> edgeKey(e.getPredicate(), '>', e.getTarget().getId())),
+          resource.getIncomingEdges().stream().map(e -> edgeKey(e.getPredicate(), '<', e.getSource().getId())))
+        .distinct()
+        .sorted()
+        .toList();
+      hasher.putInt(edges.size());
+      edges.forEach(edge -> putString(hasher, edge));
+      var digest = ByteBuffer.wrap(hasher.hash().asBytes());
+      return new ContentKey(digest.getLong(), digest.getLong());
+    }
+
+    private static String edgeKey(PredicateDictionary predicate, char direction, Long endId) {
+      return (isNull(predicate) ? "" : predicate.name()) + direction + endId;
+    }
+
+    private static void putNode(Hasher hasher, JsonNode node) {
+      if (isNull(node)) {
+        hasher.putByte((byte) 0);
+      } else if (node.isObject()) {
+        var properties = node.properties().stream().sorted(Map.Entry.comparingByKey()).toList();
+        hasher.putByte((byte) '{').putInt(properties.size());
+        properties.forEach(property -> {
+          putString(hasher, property.getKey());
+          putNode(hasher, property.getValue());
+        });
+      } else if (node.isArray()) {
+        hasher.putByte((byte) '[').putInt(node.size());
+        node.forEach(element -> putNode(hasher, element));
+      } else {
+        hasher.putByte((byte) node.getNodeType().ordinal());
+        putString(hasher, node.toString());
+      }
+    }
+
+    private static void putString(Hasher hasher, String value) {
+      if (isNull(value)) {
+        hasher.putInt(-1);
+      } else {
+        hasher.putInt(value.length()).putString(value, UTF_8);
+      }
+    }
+  }
+}
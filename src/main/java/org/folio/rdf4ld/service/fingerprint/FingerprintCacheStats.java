@@ -0,0 +1,12 @@
+package org.folio.rdf4ld.service.fingerprint;
+
+/**
+ * Counters of a {@link FingerprintCache} since its creation.
+ */
+public record FingerprintCacheStats(long hitCount, long missCount, long evictionCount, long size) {
+
+  public double hitRate() {
+    var requests = hitCount + missCount;
+    return requests == 0 ? 0 : (double) hitCount / requests;
+  }
+}
@@ -0,0 +1,65 @@
+package org.folio.rdf4ld.service.warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.folio.rdf4ld.config.WarmUpProperties;
+import org.folio.rdf4ld.service.Rdf4LdService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * Runs the bundled synthetic Bibframe 2.0 record through both mapping directions once the application is ready,
+ * so that the mapper units and Rio are JIT-compiled before the first real conversions.
+ * The warm-up runs on a background thread unless it is configured as blocking, stops after the configured number of
+ * iterations or once the time budget is spent, and never fails the startup. The given service is meant to map with a
+ * fingerprint cache of its own, so that the synthetic resources neither take entries of the shared cache nor count
+ * in its stats while real conversions may already run.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class WarmUpRunner implements ApplicationListener<ApplicationReadyEvent> {
+  public static final String WARM_UP_RECORDS = "warmup/bibframe20.json";
+  private static final String CONTENT_TYPE = "application/ld+json";
+  private final Rdf4LdService rdf4LdService;
+  private final WarmUpProperties properties;
+  private final AtomicBoolean done = new AtomicBoolean();
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    if (!done.compareAndSet(false, true)) {
+      return;
+    }
+    if (properties.blocking()) {
+      run();
+    } else {
+      Thread.ofPlatform().name("rdf4ld-warm-up").daemon(true).start(this::run);
+    }
+  }
+
+  private void run() {
+    try {
+      var records = new ClassPathResource(WARM_UP_RECORDS).getContentAsByteArray();
+      warmUp(records);
+    } catch (IOException | RuntimeException e) {
+      log.warn("Mapping warm-up failed, continuing without it", e);
+    }
+  }
+
+  private void warmUp(byte[] records) {
+    var start = System.nanoTime();
+    var deadline = start + properties.timeBudget().toNanos();
+    var iterations = 0;
+    while (iterations < properties.iterations() && System.nanoTime() - deadline < 0) {
+      rdf4LdService.mapBibframe2RdfToLd(new ByteArrayInputStream(records), CONTENT_TYPE)
+        .forEach(resource -> rdf4LdService.mapLdToBibframe2Rdf(resource, RDFFormat.JSONLD));
+      iterations++;
+    }
+    var elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+    log.info("Mapping warm-up finished: {} iterations in {} ms", iterations, elapsedMillis);
+  }
+}
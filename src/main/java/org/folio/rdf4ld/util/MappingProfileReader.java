@@ -1,16 +1,19 @@
 package org.folio.rdf4ld.util;
 
-import static org.folio.rdf4ld.util.JsonUtil.getJsonMapper;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
-import java.io.IOException;
+import jakarta.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.rdf4ld.model.MappingProfile;
+import org.folio.rdf4ld.model.ResourceInternalMapping;
 import org.folio.rdf4ld.model.ResourceMapping;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Component;
-import tools.jackson.databind.json.JsonMapper;
 
 @Log4j2
 @Component
@@ -37,72 +40,117 @@ public class MappingProfileReader {
   public static final String PRODUCTION = "provision/production.json";
   public static final String PUBLICATION = "provision/publication.json";
   public static final String ADMIN_METADATA = "admin_metadata/admin_metadata.json";
-  private final JsonMapper jsonMapper = getJsonMapper();
+  private volatile MappingProfile bibframe20Profile;
 
+  @PostConstruct
+  public void init() {
+    reloadBibframe20Profile();
+  }
+
+  /**
+   * Returns the Bibframe 2.0 mapping profile. The profile is read once and the same instance is shared
+   * by all callers, so it must not be modified. It is frozen with {@link MappingProfileUtil#freeze} before
+   * being published, so it can be used by any number of threads concurrently.
+   */
   public MappingProfile getBibframe20Profile() {
+    var profile = bibframe20Profile;
+    return nonNull(profile) ? profile : loadIfAbsent();
+  }
+
+  /**
+   * Re-reads the Bibframe 2.0 mapping profile from the classpath and replaces the shared instance.
+   */
+  public synchronized MappingProfile reloadBibframe20Profile() {
+    var profile = MappingProfileUtil.freeze(readBibframe20Profile());
+    bibframe20Profile = profile;
+    log.info("Bibframe 2.0 mapping profile has been loaded with {} top resource mappings",
+      profile.getTopResourceMappings().size());
+    return profile;
+  }
+
+  private synchronized MappingProfile loadIfAbsent() {
+    return nonNull(bibframe20Profile) ? bibframe20Profile : reloadBibframe20Profile();
+  }
+
+  private MappingProfile readBibframe20Profile() {
+    var loaded = new HashMap<String, Optional<ResourceMapping>>();
     var mappingProfile = new MappingProfile();
-    getInstanceMapping().ifPresent(mappingProfile::addTopResourceMappingsItem);
-    getHubMapping().ifPresent(mappingProfile::addTopResourceMappingsItem);
-    getWorkMapping().ifPresent(wm -> {
-      getInstanceMapping().ifPresent(im -> wm.getResourceMapping().addIncomingEdgesItem(im));
-      mappingProfile.addTopResourceMappingsItem(wm);
-    });
+    var instanceMapping = getInstanceMapping(loaded);
+    instanceMapping.ifPresent(mappingProfile::addTopResourceMappingsItem);
+    getHubMapping(loaded).ifPresent(mappingProfile::addTopResourceMappingsItem);
+    getWorkMapping(loaded)
+      .map(wm -> toTopWorkMapping(wm, instanceMapping))
+      .ifPresent(mappingProfile::addTopResourceMappingsItem);
     return mappingProfile;
   }
 
-  private Optional<ResourceMapping> getInstanceMapping() {
-    return readResourceMapping(INSTANCE)
-      .map(im -> {
-        readResourceMapping(TITLE).ifPresent(im.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(TITLE_PARALLEL).ifPresent(im.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(TITLE_VARIANT).ifPresent(im.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(LCCN).ifPresent(im.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(ISBN).ifPresent(im.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(EAN).ifPresent(im.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(DISTRIBUTION).ifPresent(im.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(MANUFACTURE).ifPresent(im.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(PRODUCTION).ifPresent(im.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(PUBLICATION).ifPresent(im.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(ADMIN_METADATA).ifPresent(im.getResourceMapping()::addOutgoingEdgesItem);
-        getWorkMapping().ifPresent(im.getResourceMapping()::addOutgoingEdgesItem);
-        return im;
-      });
+  private Optional<ResourceMapping> getInstanceMapping(Map<String, Optional<ResourceMapping>> loaded) {
+    return load(INSTANCE, loaded, im -> {
+      addOutgoingEdges(im, loaded, TITLE, TITLE_PARALLEL, TITLE_VARIANT, LCCN, ISBN, EAN,
+        DISTRIBUTION, MANUFACTURE, PRODUCTION, PUBLICATION, ADMIN_METADATA);
+      getWorkMapping(loaded).ifPresent(im.getResourceMapping()::addOutgoingEdgesItem);
+    });
+  }
+
+  private Optional<ResourceMapping> getWorkMapping(Map<String, Optional<ResourceMapping>> loaded) {
+    return load(WORK, loaded, wm -> addOutgoingEdges(wm, loaded,
+      TITLE, TITLE_PARALLEL, TITLE_VARIANT, CONTRIBUTOR, CREATOR, GENRE_FORM, SUBJECT_CONCEPT));
+  }
+
+  private Optional<ResourceMapping> getHubMapping(Map<String, Optional<ResourceMapping>> loaded) {
+    return load(HUB, loaded, hm -> addOutgoingEdges(hm, loaded,
+      TITLE, TITLE_ABBREVIATED, TITLE_PARALLEL, TITLE_VARIANT, CONTRIBUTOR, CREATOR));
   }
 
-  private Optional<ResourceMapping> getWorkMapping() {
-    return readResourceMapping(WORK)
-      .map(wm -> {
-        readResourceMapping(TITLE).ifPresent(wm.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(TITLE_PARALLEL).ifPresent(wm.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(TITLE_VARIANT).ifPresent(wm.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(CONTRIBUTOR).ifPresent(wm.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(CREATOR).ifPresent(wm.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(GENRE_FORM).ifPresent(wm.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(SUBJECT_CONCEPT).ifPresent(wm.getResourceMapping()::addOutgoingEdgesItem);
-        return wm;
-      });
+  /**
+   * Top Work mapping is the Work mapping plus the Instance as an incoming edge. It shares everything else
+   * with the Work mapping used as the Instance's outgoing edge, which must not get the Instance back.
+   */
+  private ResourceMapping toTopWorkMapping(ResourceMapping workMapping, Optional<ResourceMapping> instanceMapping) {
+    var workInternal = workMapping.getResourceMapping();
+    var topInternal = new ResourceInternalMapping()
+      .properties(workInternal.getProperties())
+      .outgoingEdges(workInternal.getOutgoingEdges())
+      .label(workInternal.getLabel());
+    workInternal.getIncomingEdges().forEach(topInternal::addIncomingEdgesItem);
+    instanceMapping.ifPresent(topInternal::addIncomingEdgesItem);
+    return new ResourceMapping()
+      .ldResourceDef(workMapping.getLdResourceDef())
+      .bfResourceDef(workMapping.getBfResourceDef())
+      .localOnly(workMapping.getLocalOnly())
+      .resourceMapping(topInternal);
   }
 
-  private Optional<ResourceMapping> getHubMapping() {
-    return readResourceMapping(HUB)
-      .map(hm -> {
-        readResourceMapping(TITLE).ifPresent(hm.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(TITLE_ABBREVIATED).ifPresent(hm.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(TITLE_PARALLEL).ifPresent(hm.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(TITLE_VARIANT).ifPresent(hm.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(CONTRIBUTOR).ifPresent(hm.getResourceMapping()::addOutgoingEdgesItem);
-        readResourceMapping(CREATOR).ifPresent(hm.getResourceMapping()::addOutgoingEdgesItem);
-        return hm;
-      });
+  private void addOutgoingEdges(ResourceMapping parent,
+                                Map<String, Optional<ResourceMapping>> loaded,
+                                String... fileNames) {
+    for (var fileName : fileNames) {
+      load(fileName, loaded, m -> {}).ifPresent(parent.getResourceMapping()::addOutgoingEdgesItem);
+    }
+  }
+
+  /**
+   * Loads every file only once per profile, so a sub-mapping is a single node referenced by all its parents.
+   * The mapping is registered before its edges are added, so edges leading back to it form a loop instead of
+   * an endless recursion.
+   */
+  private Optional<ResourceMapping> load(String fileName,
+                                         Map<String, Optional<ResourceMapping>> loaded,
+                                         Consumer<ResourceMapping> edgesAppender) {
+    var mapping = loaded.get(fileName);
+    if (isNull(mapping)) {
+      mapping = readResourceMapping(fileName);
+      loaded.put(fileName, mapping);
+      mapping.ifPresent(edgesAppender);
+    }
+    return mapping;
   }
 
   private Optional<ResourceMapping> readResourceMapping(String fileName) {
-    try {
-      var resource = new ClassPathResource(BASE_PATH + fileName);
-      return Optional.of(jsonMapper.readValue(resource.getInputStream(), ResourceMapping.class));
-    } catch (IOException e) {
-      log.error("Mapping profile reading issue for file: {}", fileName, e);
-      return Optional.empty();
+    var mapping = Bibframe20Mappings.get(fileName);
+    if (mapping.isEmpty()) {
+      log.error("Mapping profile file is not found: {}{}", BASE_PATH, fileName);
     }
+    return mapping;
   }
 }
@@ -0,0 +1,92 @@
+package org.folio.rdf4ld.util;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.experimental.UtilityClass;
+import org.folio.rdf4ld.model.BfResourceDef;
+import org.folio.rdf4ld.model.LdResourceDef;
+import org.folio.rdf4ld.model.MappingProfile;
+import org.folio.rdf4ld.model.PropertyMapping;
+import org.folio.rdf4ld.model.ResourceMapping;
+
+@UtilityClass
+public class MappingProfileUtil {
+
+  /**
+   * Makes every list of the profile graph unmodifiable, so that adding or removing mappings, properties, edges
+   * or types fails instead of racing with conversions running on other threads.
+   * The profile is frozen in place and returned. Lists and mappings shared by several parents stay shared,
+   * and loops in the mapping graph are supported. Scalar setters of the generated model remain available,
+   * a frozen profile is still expected not to be modified.
+   */
+  public static MappingProfile freeze(MappingProfile profile) {
+    var frozen = new Freezer();
+    profile.setTopResourceMappings(frozen.list(profile.getTopResourceMappings()));
+    profile.getTopResourceMappings().forEach(frozen::mapping);
+    return profile;
+  }
+
+  private static final class Freezer {
+    private final Map<List<?>, List<?>> lists = new IdentityHashMap<>();
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private void mapping(ResourceMapping mapping) {
+      if (isNull(mapping) || !visited.add(mapping)) {
+        return;
+      }
+      ldDef(mapping.getLdResourceDef());
+      bfDef(mapping.getBfResourceDef());
+      var internal = mapping.getResourceMapping();
+      if (nonNull(internal)) {
+        internal.setProperties(list(internal.getProperties()));
+        internal.setOutgoingEdges(list(internal.getOutgoingEdges()));
+        internal.setIncomingEdges(list(internal.getIncomingEdges()));
+        internal.setLabel(list(internal.getLabel()));
+        internal.getProperties().forEach(this::property);
+        internal.getOutgoingEdges().forEach(this::mapping);
+        internal.getIncomingEdges().forEach(this::mapping);
+      }
+    }
+
+    private void property(PropertyMapping property) {
+      if (isNull(property) || !visited.add(property)) {
+        return;
+      }
+      ldDef(property.getOutgoingEdgeParentLdDef());
+      ldDef(property.getIncomingEdgeParentLdDef());
+      bfDef(property.getEdgeParentBfDef());
+    }
+
+    private void ldDef(LdResourceDef def) {
+      if (nonNull(def) && visited.add(def)) {
+        def.setTypeSet(list(def.getTypeSet()));
+      }
+    }
+
+    private void bfDef(BfResourceDef def) {
+      if (nonNull(def) && visited.add(def)) {
+        def.setTypeSet(list(def.getTypeSet()));
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> List<T> list(List<T> list) {
+      if (isNull(list)) {
+        return List.of();
+      }
+      var frozen = (List<T>) lists.get(list);
+      if (isNull(frozen)) {
+        frozen = list.stream().toList();
+        lists.put(list, frozen);
+        lists.put(frozen, frozen);
+      }
+      return frozen;
+    }
+  }
+}
@@ -5,30 +5,30 @@ import static java.util.Optional.ofNullable;
 import java.util.Collection;
 import java.util.List;
 import lombok.experimental.UtilityClass;
+import org.folio.rdf4ld.mapper.plan.BfResourcePlan;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.folio.rdf4ld.model.BfResourceDef;
-import org.folio.rdf4ld.model.ResourceInternalMapping;
 import org.folio.rdf4ld.model.ResourceMapping;
 
 @UtilityClass
 public class MappingUtil {
 
-  public static ResourceMapping getEdgeMapping(ResourceInternalMapping resourceMapping, int number) {
-    return ofNullable(resourceMapping)
-      .map(ResourceInternalMapping::getOutgoingEdges)
-      .filter(oe -> oe.size() > number)
-      .map(oe -> oe.toArray(new ResourceMapping[number])[number])
+  public static ResourceMappingPlan getEdgePlan(ResourceMappingPlan plan, int number) {
+    return ofNullable(plan)
+      .map(p -> p.getOutgoingEdge(number))
       .orElse(null);
   }
 
-  public static String getEdgePredicate(ResourceInternalMapping resourceMapping, int number) {
-    return ofNullable(getEdgeMapping(resourceMapping, number))
-      .map(ResourceMapping::getBfResourceDef)
-      .map(BfResourceDef::getPredicate)
+  public static String getEdgePredicate(ResourceMappingPlan plan, int number) {
+    return ofNullable(getEdgePlan(plan, number))
+      .map(ResourceMappingPlan::getBfResource)
+      .map(BfResourcePlan::getPredicate)
       .orElse(null);
   }
 
-  public static Collection<String> getEdgeTypeSet(ResourceInternalMapping resourceMapping, int number) {
-    return ofNullable(getEdgeMapping(resourceMapping, number))
+  public static Collection<String> getEdgeTypeSet(ResourceMappingPlan plan, int number) {
+    return ofNullable(getEdgePlan(plan, number))
+      .map(ResourceMappingPlan::getMapping)
       .map(ResourceMapping::getBfResourceDef)
       .map(BfResourceDef::getTypeSet)
       .orElse(List.of());
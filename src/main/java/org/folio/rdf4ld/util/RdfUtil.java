@@ -27,15 +27,16 @@ import lombok.experimental.UtilityClass;
 import org.eclipse.rdf4j.model.BNode;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
-import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.eclipse.rdf4j.model.util.Values;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.folio.ld.dictionary.ResourceTypeDictionary;
+import org.folio.rdf4ld.mapper.context.RdfTypeIndex;
+import org.folio.rdf4ld.mapper.context.RdfTypes;
 import org.folio.rdf4ld.mapper.core.CoreLd2RdfMapper;
-import org.folio.rdf4ld.model.BfResourceDef;
-import org.folio.rdf4ld.model.ResourceMapping;
+import org.folio.rdf4ld.mapper.plan.BfResourcePlan;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.jetbrains.annotations.NotNull;
 
 @UtilityClass
@@ -80,19 +81,7 @@ public class RdfUtil {
 
   public static Stream<Resource> selectSubjectsByTypes(Model model,
                                                        Collection<String> bfTypeSet) {
-    var allSubjects = model.subjects();
-    return allSubjects.stream()
-      .filter(subject -> bfTypeSet.stream()
-        .allMatch(type -> model.contains(subject, RDF.TYPE, Values.iri(type)))
-      );
-  }
-
-  public static Set<String> getAllTypes(Model model, Resource resource) {
-    return model.filter(resource, RDF.TYPE, null)
-      .stream()
-      .map(Statement::getObject)
-      .map(Value::stringValue)
-      .collect(Collectors.toSet());
+    return RdfTypeIndex.of(model).selectSubjects(bfTypeSet);
   }
 
   public static void linkResources(Resource from,
@@ -107,8 +96,8 @@ public class RdfUtil {
     return "http://id.loc.gov/rwo/agents/" + lccnLink.substring(lccnLink.lastIndexOf("/") + 1);
   }
 
-  public static Set<ResourceTypeDictionary> readSupportedExtraTypes(Model model, Resource rdfResource) {
-    return readAllTypes(model, rdfResource)
+  public static Set<ResourceTypeDictionary> readSupportedExtraTypes(RdfTypes types) {
+    return types.stream()
       .flatMap(type -> LD_TO_BF_EXTRA_TYPES.inverse()
         .entrySet()
         .stream()
@@ -118,13 +107,6 @@ public class RdfUtil {
       .collect(Collectors.toSet());
   }
 
-  public static Stream<String> readAllTypes(Model model, Resource rdfResource) {
-    return model.filter(rdfResource, RDF.TYPE, null)
-      .stream()
-      .map(Statement::getObject)
-      .map(Value::stringValue);
-  }
-
   public static void writeExtraTypes(ModelBuilder modelBuilder,
                                      org.folio.ld.dictionary.model.Resource resource,
                                      Resource rdfResource) {
@@ -141,15 +123,15 @@ public class RdfUtil {
   public static BNode writeBlankNode(BNode node,
                                      org.folio.ld.dictionary.model.Resource resource,
                                      ModelBuilder modelBuilder,
-                                     ResourceMapping mapping,
+                                     ResourceMappingPlan plan,
                                      CoreLd2RdfMapper coreLd2RdfMapper) {
     modelBuilder.subject(node);
-    ofNullable(mapping.getBfResourceDef())
-      .map(BfResourceDef::getTypeSet)
+    ofNullable(plan.getBfResource())
+      .map(BfResourcePlan::getTypeIris)
       .stream()
       .flatMap(Collection::stream)
-      .forEach(type -> modelBuilder.add(RDF.TYPE, iri(type)));
-    coreLd2RdfMapper.mapProperties(resource, modelBuilder, mapping);
+      .forEach(type -> modelBuilder.add(RDF.TYPE, type));
+    coreLd2RdfMapper.mapProperties(resource, modelBuilder, plan);
     return node;
   }
 
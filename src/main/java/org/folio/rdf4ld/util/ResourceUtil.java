@@ -38,6 +38,7 @@ import org.folio.ld.dictionary.PropertyDictionary;
 import org.folio.ld.dictionary.ResourceTypeDictionary;
 import org.folio.ld.dictionary.model.Resource;
 import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.rdf4ld.mapper.context.MappingContext;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.node.ArrayNode;
 import tools.jackson.databind.node.ObjectNode;
@@ -158,12 +159,10 @@ public class ResourceUtil {
   }
 
   public static Resource enrichResource(Resource resource,
-                                        org.eclipse.rdf4j.model.Model model,
-                                        org.eclipse.rdf4j.model.Resource rdfResource,
-                                        org.folio.ld.fingerprint.service.FingerprintHashService hashService) {
+                                        MappingContext context,
+                                        org.eclipse.rdf4j.model.Resource rdfResource) {
     copyLongestLabelToName(resource);
-    RdfUtil.readSupportedExtraTypes(model, rdfResource).forEach(resource::addType);
-    resource.setId(hashService.hash(resource));
+    RdfUtil.readSupportedExtraTypes(context.getTypes(rdfResource)).forEach(resource::addType);
     return resource;
   }
 
@@ -0,0 +1,64 @@
+package org.folio.rdf4ld.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.aot.hint.predicate.RuntimeHintsPredicates.reflection;
+import static org.springframework.aot.hint.predicate.RuntimeHintsPredicates.resource;
+
+import java.util.stream.Stream;
+import org.folio.rdf4ld.mapper.unit.monograph.agent.ContributorRdfMapperUnit;
+import org.folio.rdf4ld.mapper.unit.monograph.agent.CreatorRdfMapperUnit;
+import org.folio.rdf4ld.model.BfResourceDef;
+import org.folio.rdf4ld.model.LdResourceDef;
+import org.folio.rdf4ld.model.MappingProfile;
+import org.folio.rdf4ld.model.PropertyMapping;
+import org.folio.rdf4ld.model.ResourceInternalMapping;
+import org.folio.rdf4ld.model.ResourceMapping;
+import org.folio.rdf4ld.service.warmup.WarmUpRunner;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.annotation.ReflectiveRuntimeHintsRegistrar;
+
+@UnitTest
+class Rdf4ldRuntimeHintsTest {
+
+  private final RuntimeHints hints = new RuntimeHints();
+
+  @ParameterizedTest
+  @MethodSource("modelClasses")
+  void registerHints_shouldRegisterMappingProfileModelForBinding(Class<?> modelClass) throws NoSuchMethodException {
+    // when
+    new Rdf4ldRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+    // then
+    assertThat(reflection().onType(modelClass)).accepts(hints);
+    assertThat(reflection().onConstructorInvocation(modelClass.getConstructor())).accepts(hints);
+  }
+
+  @Test
+  void registerHints_shouldRegisterWarmUpRecords() {
+    // when
+    new Rdf4ldRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+    // then
+    assertThat(resource().forResource(WarmUpRunner.WARM_UP_RECORDS)).accepts(hints);
+  }
+
+  @Test
+  void rdfMapperDefinition_shouldMakeMapperUnitsReflective() {
+    // when
+    new ReflectiveRuntimeHintsRegistrar()
+      .registerRuntimeHints(hints, CreatorRdfMapperUnit.class, ContributorRdfMapperUnit.class);
+
+    // then
+    assertThat(reflection().onType(CreatorRdfMapperUnit.class)).accepts(hints);
+    assertThat(reflection().onType(ContributorRdfMapperUnit.class)).accepts(hints);
+  }
+
+  private static Stream<Class<?>> modelClasses() {
+    return Stream.of(MappingProfile.class, ResourceMapping.class, ResourceInternalMapping.class,
+      PropertyMapping.class, LdResourceDef.class, BfResourceDef.class);
+  }
+}
@@ -0,0 +1,107 @@
+package org.folio.rdf4ld.e2e;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.rdf4j.model.util.Values.iri;
+import static org.folio.ld.dictionary.PredicateDictionary.AUTHOR;
+import static org.folio.ld.dictionary.PredicateDictionary.CREATOR;
+import static org.folio.ld.dictionary.PredicateDictionary.ILLUSTRATOR;
+import static org.folio.ld.dictionary.PredicateDictionary.INSTANTIATES;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.BOOKS;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.ID_LCNAF;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.PERSON;
+import static org.folio.rdf4ld.test.MonographUtil.createAgent;
+import static org.folio.rdf4ld.test.MonographUtil.createInstance;
+import static org.folio.rdf4ld.test.MonographUtil.createWork;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.rdf4ld.mapper.Rdf4LdMapper;
+import org.folio.rdf4ld.service.Rdf4LdService;
+import org.folio.rdf4ld.test.SpringTestConfig;
+import org.folio.spring.testing.type.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@IntegrationTest
+@EnableConfigurationProperties
+@SpringBootTest(classes = SpringTestConfig.class)
+class BatchExportIT {
+
+  private static final String RESOURCES_URL = "http://test-tobe-changed.folio.com/resources/";
+  private static final String ROLES_NAMESPACE = "http://id.loc.gov/vocabulary/relators/";
+
+  @Autowired
+  private Rdf4LdService rdf4LdService;
+  @Autowired
+  private Rdf4LdMapper rdf4LdMapper;
+
+  @Test
+  void mapLdToBibframe2Rdf_shouldKeepRolesOfEveryWork_forWorksSharingAgentUnderDifferentRoles() throws IOException {
+    // given
+    var agent = createAgent("n2021004098", ID_LCNAF, false, List.of(PERSON), "Shared Agent");
+    var author = createWork(Map.of(), BOOKS);
+    author.addOutgoingEdge(new ResourceEdge(author, agent, CREATOR));
+    author.addOutgoingEdge(new ResourceEdge(author, agent, AUTHOR));
+    var illustrator = createWork(Map.of(), BOOKS);
+    illustrator.addOutgoingEdge(new ResourceEdge(illustrator, agent, CREATOR));
+    illustrator.addOutgoingEdge(new ResourceEdge(illustrator, agent, ILLUSTRATOR));
+    var output = new ByteArrayOutputStream();
+
+    // when
+    rdf4LdService.mapLdToBibframe2Rdf(List.of(author, illustrator), RDFFormat.NTRIPLES, output);
+
+    // then
+    var written = Rio.parse(new ByteArrayInputStream(output.toByteArray()), "", RDFFormat.NTRIPLES);
+    assertThat(roles(written, author)).containsExactly(iri(ROLES_NAMESPACE, "aut"));
+    assertThat(roles(written, illustrator)).containsExactly(iri(ROLES_NAMESPACE, "ill"));
+  }
+
+  @Test
+  void mapLdToBibframe2Rdf_shouldWriteSharedWorkOnce_forManyInstances() {
+    // given
+    var work = createWork(Map.of(), BOOKS);
+    var creator = createAgent("n2021004098", ID_LCNAF, true, List.of(PERSON), "Creator Agent");
+    work.addOutgoingEdge(new ResourceEdge(work, creator, CREATOR));
+    var instances = new ArrayList<Resource>();
+    for (var i = 0; i < 100; i++) {
+      var instance = createInstance(null);
+      instance.addOutgoingEdge(new ResourceEdge(instance, work, INSTANTIATES));
+      instances.add(instance);
+    }
+    var statementsPerInstance = rdf4LdMapper.mapLdToBibframe2Rdf(instances.getFirst()).size();
+    var output = new ByteArrayOutputStream();
+
+    // when
+    rdf4LdService.mapLdToBibframe2Rdf(instances, RDFFormat.NTRIPLES, output);
+
+    // then
+    var lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+    assertThat(new HashSet<>(lines)).hasSameSizeAs(lines);
+    assertThat(lines).hasSizeLessThan(statementsPerInstance * instances.size());
+  }
+
+  private Set<Value> roles(Model model, Resource work) {
+    return model.filter(iri(RESOURCES_URL + work.getId()), null, null).objects().stream()
+      .filter(BNode.class::isInstance)
+      .flatMap(contribution -> model.filter((BNode) contribution, null, null).objects().stream())
+      .filter(value -> value.stringValue().startsWith(ROLES_NAMESPACE))
+      .collect(Collectors.toSet());
+  }
+}
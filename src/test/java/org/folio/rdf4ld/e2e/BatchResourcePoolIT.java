@@ -0,0 +1,56 @@
+package org.folio.rdf4ld.e2e;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ld.dictionary.PredicateDictionary.PROVIDER_PLACE;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.stream.Stream;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.rdf4ld.mapper.Rdf4LdMapper;
+import org.folio.rdf4ld.mapper.context.ResourcePool;
+import org.folio.rdf4ld.test.SpringTestConfig;
+import org.folio.spring.testing.type.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@IntegrationTest
+@EnableConfigurationProperties
+@SpringBootTest(classes = SpringTestConfig.class)
+class BatchResourcePoolIT {
+
+  private static final String RECORD = "/rdf/instance/instance_provisions.json";
+
+  @Autowired
+  private Rdf4LdMapper rdf4LdMapper;
+
+  @Test
+  void mapBibframe2RdfToLd_shouldShareProviderPlaces_acrossRecordsOfBatch() throws IOException {
+    // given
+    var pool = new ResourcePool();
+
+    // when
+    var first = rdf4LdMapper.mapBibframe2RdfToLd(Rio.parse(getClass().getResourceAsStream(RECORD), "",
+      RDFFormat.JSONLD), pool);
+    var second = rdf4LdMapper.mapBibframe2RdfToLd(Rio.parse(getClass().getResourceAsStream(RECORD), "",
+      RDFFormat.JSONLD), pool);
+
+    // then
+    var places = Collections.newSetFromMap(new IdentityHashMap<Resource, Boolean>());
+    Stream.concat(first.stream(), second.stream())
+      .flatMap(instance -> instance.getOutgoingEdges().stream())
+      .map(ResourceEdge::getTarget)
+      .flatMap(provision -> provision.getOutgoingEdges().stream())
+      .filter(edge -> edge.getPredicate() == PROVIDER_PLACE)
+      .map(ResourceEdge::getTarget)
+      .forEach(places::add);
+    assertThat(places).isNotEmpty().extracting(Resource::getId).doesNotHaveDuplicates();
+    assertThat(pool.size()).isPositive();
+  }
+}
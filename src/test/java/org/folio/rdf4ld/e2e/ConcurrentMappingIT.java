@@ -0,0 +1,89 @@
+package org.folio.rdf4ld.e2e;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.rdf4ld.mapper.Rdf4LdMapper;
+import org.folio.rdf4ld.test.SpringTestConfig;
+import org.folio.spring.testing.type.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@IntegrationTest
+@EnableConfigurationProperties
+@SpringBootTest(classes = SpringTestConfig.class)
+class ConcurrentMappingIT {
+
+  private static final int THREADS = 8;
+  private static final int ROUNDS = 25;
+  private static final List<String> FIXTURES = List.of(
+    "/rdf/multiple_top_resources.json",
+    "/rdf/instance/instance_titles.json",
+    "/rdf/instance/instance_provisions.json",
+    "/rdf/instance/identifiers/instance_identifiers.json",
+    "/rdf/instance/work/agent/instance_work_agent_as_creator_and_contributor.json",
+    "/rdf/instance/work/subject/instance_work_subject_concept_person_complex_no_lccn.json",
+    "/rdf/work/work_instance.json",
+    "/rdf/hub/hub_agent_as_creator_and_contributor.json"
+  );
+
+  @Autowired
+  private Rdf4LdMapper rdf4LdMapper;
+
+  @Test
+  void mappers_shouldProduceSameOutput_whenCalledConcurrentlyOnSharedProfile() throws Exception {
+    // given
+    var inputs = new HashMap<String, byte[]>();
+    var expected = new HashMap<String, Map<Long, Model>>();
+    for (var fixture : FIXTURES) {
+      inputs.put(fixture, this.getClass().getResourceAsStream(fixture).readAllBytes());
+      expected.put(fixture, convert(inputs.get(fixture)));
+    }
+
+    // when
+    var actual = new ArrayList<Future<Map.Entry<String, Map<Long, Model>>>>();
+    try (var executor = Executors.newFixedThreadPool(THREADS)) {
+      for (var round = 0; round < ROUNDS; round++) {
+        for (var fixture : FIXTURES) {
+          var input = inputs.get(fixture);
+          Callable<Map.Entry<String, Map<Long, Model>>> task = () -> Map.entry(fixture, convert(input));
+          actual.add(executor.submit(task));
+        }
+      }
+    }
+
+    // then
+    assertThat(actual).hasSize(ROUNDS * FIXTURES.size());
+    for (var future : actual) {
+      var result = future.get();
+      var expectedModels = expected.get(result.getKey());
+      assertThat(result.getValue().keySet()).isEqualTo(expectedModels.keySet());
+      result.getValue().forEach((id, model) ->
+        assertThat(Models.isomorphic(model, expectedModels.get(id)))
+          .as("RDF of resource %s mapped from %s", id, result.getKey())
+          .isTrue());
+    }
+  }
+
+  private Map<Long, Model> convert(byte[] input) throws IOException {
+    var model = Rio.parse(new ByteArrayInputStream(input), "", RDFFormat.JSONLD);
+    return rdf4LdMapper.mapBibframe2RdfToLd(model).stream()
+      .collect(Collectors.toMap(Resource::getId, rdf4LdMapper::mapLdToBibframe2Rdf));
+  }
+}
@@ -0,0 +1,90 @@
+package org.folio.rdf4ld.e2e;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.HUB;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.INSTANCE;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.WORK;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.rdf4ld.mapper.Rdf4LdMapper;
+import org.folio.rdf4ld.test.SpringTestConfig;
+import org.folio.spring.testing.type.IntegrationTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Round-trips the test fixtures through the Bibframe 2.0 profile and checks the top resources against the types and
+ * outgoing edge counts the JVM mapping gives, as asserted in detail by the e2e tests of every fixture.
+ * Runs on the JVM with the other integration tests and is the test executed inside a native image
+ * by the {@code nativeTest} profile.
+ */
+@IntegrationTest
+@EnableConfigurationProperties
+@SpringBootTest(classes = SpringTestConfig.class)
+@ImportRuntimeHints(NativeConversionIT.FixturesRuntimeHints.class)
+class NativeConversionIT {
+
+  @Autowired
+  private Rdf4LdMapper rdf4LdMapper;
+
+  @ParameterizedTest
+  @MethodSource("fixtures")
+  void mapBibframe2RdfToLd_andBack_shouldConvertFixture(String fixture, List<String> expectedTopResources)
+    throws IOException {
+    // given
+    var input = this.getClass().getResourceAsStream(fixture);
+    var model = Rio.parse(input, "", RDFFormat.JSONLD);
+
+    // when
+    var resources = rdf4LdMapper.mapBibframe2RdfToLd(model);
+
+    // then
+    assertThat(resources).map(NativeConversionIT::describe)
+      .containsExactlyInAnyOrderElementsOf(expectedTopResources);
+    resources.forEach(resource -> {
+      assertThat(resource.getId()).isNotNull();
+      assertThat(resource.getDoc()).isNotNull();
+      assertThat(rdf4LdMapper.mapLdToBibframe2Rdf(resource)).isNotEmpty();
+    });
+  }
+
+  private static String describe(Resource resource) {
+    var type = Stream.of(INSTANCE, WORK, HUB).filter(resource::isOfType).findFirst().orElseThrow();
+    return type.name() + " with " + resource.getOutgoingEdges().size() + " outgoing edges";
+  }
+
+  private static Stream<Arguments> fixtures() {
+    return Stream.of(
+      arguments("/rdf/multiple_top_resources.json", List.of("INSTANCE with 4 outgoing edges",
+        "INSTANCE with 3 outgoing edges", "HUB with 3 outgoing edges", "HUB with 3 outgoing edges",
+        "WORK with 3 outgoing edges")),
+      arguments("/rdf/instance/instance_titles.json", List.of("INSTANCE with 3 outgoing edges")),
+      arguments("/rdf/instance/instance_provisions.json", List.of("INSTANCE with 4 outgoing edges")),
+      arguments("/rdf/instance/work/agent/instance_work_agent_lccn.json", List.of("INSTANCE with 1 outgoing edges")),
+      arguments("/rdf/work/work_titles.json", List.of("WORK with 3 outgoing edges")),
+      arguments("/rdf/work/work_instance.json", List.of("WORK with 3 outgoing edges")),
+      arguments("/rdf/hub/hub_agent_no_lccn.json", List.of("HUB with 6 outgoing edges"))
+    );
+  }
+
+  static class FixturesRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+      hints.resources().registerPattern("rdf/**/*.json");
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package org.folio.rdf4ld.e2e;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ld.dictionary.PredicateDictionary.INSTANTIATES;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.INSTANCE;
+import static org.folio.rdf4ld.test.TestUtil.instancesOfOneWork;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.config.ParallelMappingProperties;
+import org.folio.rdf4ld.mapper.Rdf4LdMapper;
+import org.folio.rdf4ld.mapper.Rdf4LdMapperImpl;
+import org.folio.rdf4ld.mapper.plan.MappingPlanProvider;
+import org.folio.rdf4ld.service.fingerprint.FingerprintCache;
+import org.folio.rdf4ld.test.SpringTestConfig;
+import org.folio.rdf4ld.util.MappingProfileReader;
+import org.folio.spring.testing.type.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@IntegrationTest
+@EnableConfigurationProperties
+@SpringBootTest(classes = SpringTestConfig.class, properties = "rdf4ld.parallel-mapping.enabled=true")
+class ParallelMappingIT {
+
+  @Autowired
+  private Rdf4LdMapper rdf4LdMapper;
+  @Autowired
+  private MappingProfileReader mappingProfileReader;
+  @Autowired
+  private MappingPlanProvider mappingPlanProvider;
+  @Autowired
+  private FingerprintHashService hashService;
+  @Autowired
+  private FingerprintCache fingerprintCache;
+
+  static List<String> fixtures() {
+    return List.of(
+      "/rdf/multiple_top_resources.json",
+      "/rdf/instance/instance_provisions.json",
+      "/rdf/instance/work/agent/instance_work_agent_as_creator_and_contributor.json",
+      "/rdf/instance/work/subject/instance_work_subject_concept_person_complex_no_lccn.json",
+      "/rdf/work/work_instance.json",
+      "/rdf/hub/hub_agent_as_creator_and_contributor.json"
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource("fixtures")
+  void mapBibframe2RdfToLd_shouldProduceSameOutputAsSequentialMode(String fixture) throws IOException {
+    // given
+    var model = Rio.parse(getClass().getResourceAsStream(fixture), "", RDFFormat.JSONLD);
+    var sequentialMapper = new Rdf4LdMapperImpl(mappingProfileReader, mappingPlanProvider, hashService,
+      fingerprintCache, new ParallelMappingProperties(false, 0));
+
+    // when
+    var parallel = toRdf(rdf4LdMapper.mapBibframe2RdfToLd(model));
+    var sequential = toRdf(sequentialMapper.mapBibframe2RdfToLd(model));
+
+    // then
+    assertThat(parallel.keySet()).isEqualTo(sequential.keySet());
+    parallel.forEach((id, rdf) -> assertThat(Models.isomorphic(rdf, sequential.get(id)))
+      .as("RDF of resource %s mapped from %s", id, fixture)
+      .isTrue());
+  }
+
+  @Test
+  void mapBibframe2RdfToLd_shouldMapInstancesOfOneWorkWithOneWork() {
+    // given
+    var model = instancesOfOneWork(20);
+
+    // when
+    var result = rdf4LdMapper.mapBibframe2RdfToLd(model);
+
+    // then
+    var works = Collections.newSetFromMap(new IdentityHashMap<Resource, Boolean>());
+    result.stream()
+      .filter(r -> r.isOfType(INSTANCE))
+      .flatMap(instance -> instance.getOutgoingEdges().stream())
+      .filter(edge -> edge.getPredicate() == INSTANTIATES)
+      .map(ResourceEdge::getTarget)
+      .forEach(works::add);
+    assertThat(works).hasSize(1);
+  }
+
+  private Map<Long, Model> toRdf(Set<Resource> resources) {
+    return resources.stream()
+      .collect(Collectors.toMap(Resource::getId, rdf4LdMapper::mapLdToBibframe2Rdf));
+  }
+}
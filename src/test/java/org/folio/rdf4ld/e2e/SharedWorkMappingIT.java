@@ -0,0 +1,61 @@
+package org.folio.rdf4ld.e2e;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.rdf4j.model.util.Values.iri;
+import static org.folio.ld.dictionary.PredicateDictionary.INSTANTIATES;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.INSTANCE;
+import static org.folio.rdf4ld.test.TestUtil.instancesOfOneWork;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.rdf4ld.mapper.Rdf4LdMapper;
+import org.folio.rdf4ld.mapper.unit.monograph.WorkRdfMapperUnit;
+import org.folio.rdf4ld.test.SpringTestConfig;
+import org.folio.spring.testing.type.IntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+@IntegrationTest
+@EnableConfigurationProperties
+@SpringBootTest(classes = SpringTestConfig.class)
+class SharedWorkMappingIT {
+
+  private static final int INSTANCES = 5;
+  private static final String WORK_IRI = "http://test-tobe-changed.folio.com/resources/WORK_ID";
+
+  @Autowired
+  private Rdf4LdMapper rdf4LdMapper;
+  @MockitoSpyBean
+  private WorkRdfMapperUnit workRdfMapperUnit;
+
+  @Test
+  void mapBibframe2RdfToLd_shouldMapSharedWorkOnce_forManyInstancesOfOneWork() {
+    // given
+    var model = instancesOfOneWork(INSTANCES);
+
+    // when
+    var result = rdf4LdMapper.mapBibframe2RdfToLd(model);
+
+    // then
+    verify(workRdfMapperUnit, times(1)).mapToLd(any(), eq(iri(WORK_IRI)), any(), notNull());
+    var instances = result.stream().filter(r -> r.isOfType(INSTANCE)).toList();
+    assertThat(instances).hasSize(INSTANCES);
+    var works = Collections.newSetFromMap(new IdentityHashMap<Resource, Boolean>());
+    instances.stream()
+      .flatMap(instance -> instance.getOutgoingEdges().stream())
+      .filter(edge -> edge.getPredicate() == INSTANTIATES)
+      .map(ResourceEdge::getTarget)
+      .forEach(works::add);
+    assertThat(works).hasSize(1);
+  }
+}
@@ -13,6 +13,7 @@ import java.util.List;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.Rio;
 import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.ld.fingerprint.service.FingerprintHashService;
 import org.folio.rdf4ld.mapper.Rdf4LdMapper;
 import org.folio.rdf4ld.test.SpringTestConfig;
 import org.folio.spring.testing.type.IntegrationTest;
@@ -28,6 +29,8 @@ class WorkInstanceMappingIT {
 
   @Autowired
   private Rdf4LdMapper rdf4LdMapper;
+  @Autowired
+  private FingerprintHashService hashService;
 
   @Test
   void mapBibframe2RdfToLd_shouldReturnMappedWorkWithInstance() throws IOException {
@@ -59,4 +62,26 @@ class WorkInstanceMappingIT {
     assertThat(instance.getOutgoingEdges()).contains(new ResourceEdge(instance, work, INSTANTIATES));
   }
 
+  @Test
+  void mapBibframe2RdfToLd_shouldHashInstanceOfWorkWithoutItsEdgeToWork() throws IOException {
+    // given
+    var input = this.getClass().getResourceAsStream("/rdf/work/work_instance.json");
+    var model = Rio.parse(input, "", RDFFormat.JSONLD);
+
+    // when
+    var work = rdf4LdMapper.mapBibframe2RdfToLd(model).iterator().next();
+
+    // then
+    var instance = work.getIncomingEdges().iterator().next().getSource();
+    var linkToWork = instance.getOutgoingEdges().stream()
+      .filter(edge -> edge.getTarget() == work)
+      .findFirst()
+      .orElseThrow();
+    instance.getOutgoingEdges().remove(linkToWork);
+    var instanceIdBeforeLinkToWork = hashService.hash(instance);
+    instance.addOutgoingEdge(linkToWork);
+    assertThat(instance.getId()).isEqualTo(instanceIdBeforeLinkToWork);
+    assertThat(work.getId()).isEqualTo(hashService.hash(work));
+  }
+
 }
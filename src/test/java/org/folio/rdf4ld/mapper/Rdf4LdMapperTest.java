@@ -2,27 +2,40 @@ package org.folio.rdf4ld.mapper;
 
 import static java.util.Optional.of;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.folio.ld.dictionary.PredicateDictionary.INSTANTIATES;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.INSTANCE;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.WORK;
 import static org.folio.rdf4ld.test.TestUtil.emptyMapper;
+import static org.folio.rdf4ld.test.TestUtil.instanceWorkPairs;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
+import java.util.Set;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.eclipse.rdf4j.model.util.Values;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.folio.ld.dictionary.model.Resource;
+import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.config.FingerprintCacheProperties;
+import org.folio.rdf4ld.config.ParallelMappingProperties;
+import org.folio.rdf4ld.mapper.context.MappingContext;
 import org.folio.rdf4ld.mapper.core.CoreRdf2LdMapper;
+import org.folio.rdf4ld.mapper.plan.MappingPlanProviderImpl;
 import org.folio.rdf4ld.mapper.unit.RdfMapperUnit;
 import org.folio.rdf4ld.mapper.unit.RdfMapperUnitProvider;
 import org.folio.rdf4ld.model.BfResourceDef;
 import org.folio.rdf4ld.model.LdResourceDef;
 import org.folio.rdf4ld.model.MappingProfile;
 import org.folio.rdf4ld.model.ResourceMapping;
+import org.folio.rdf4ld.service.fingerprint.FingerprintCacheImpl;
 import org.folio.rdf4ld.util.MappingProfileReader;
 import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -30,7 +43,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class Rdf4LdMapperTest {
 
-  @InjectMocks
   private Rdf4LdMapperImpl topMapper;
   @Mock
   private MappingProfileReader mappingProfileReader;
@@ -38,6 +50,15 @@ class Rdf4LdMapperTest {
   private CoreRdf2LdMapper coreRdf2LdMapper;
   @Mock
   private RdfMapperUnitProvider rdfMapperUnitProvider;
+  @Mock
+  private FingerprintHashService hashService;
+
+  @BeforeEach
+  void setUp() {
+    topMapper = new Rdf4LdMapperImpl(mappingProfileReader, new MappingPlanProviderImpl(rdfMapperUnitProvider),
+      hashService, new FingerprintCacheImpl(new FingerprintCacheProperties(false, 0)),
+      new ParallelMappingProperties(false, 0));
+  }
 
   @Test
   void mapRdfToLd_shouldReturnEmptySetWhenCoreRdf2LdInstanceMapperReturnsNoStatements() {
@@ -87,6 +108,32 @@ class Rdf4LdMapperTest {
     assertThat(result).hasSize(1).contains(expectedResource);
   }
 
+  @Test
+  void mapRdfToLd_shouldAssignIdsOfResourcesMarkedDirty() {
+    // given
+    var bfType = "http://aaa.com/bfType";
+    var model = new ModelBuilder()
+      .subject("http://example.org/resource1").add(RDF.TYPE, Values.iri(bfType))
+      .build();
+    var mappingProfile = new MappingProfile()
+      .addTopResourceMappingsItem(new ResourceMapping()
+        .bfResourceDef(new BfResourceDef().addTypeSetItem(bfType))
+        .ldResourceDef(new LdResourceDef()));
+    var mapper = mock(RdfMapperUnit.class);
+    doReturn(mapper).when(rdfMapperUnitProvider).getMapper(any(), any());
+    var mapped = new Resource();
+    doAnswer(inv -> of(inv.<MappingContext>getArgument(0).markDirty(mapped)))
+      .when(mapper).mapToLd(any(), any(), any(), any());
+    doReturn(789L).when(hashService).hash(mapped);
+
+    // when
+    var result = topMapper.mapRdfToLd(model, mappingProfile);
+
+    // then
+    assertThat(result).containsExactly(mapped);
+    assertThat(mapped.getId()).isEqualTo(789L);
+  }
+
   @Test
   void mapLdToBibframe2Rdf_shouldReturnModelEnrichedByAccordingMapper() {
     // given
@@ -163,4 +210,38 @@ class Rdf4LdMapperTest {
     assertThat(result).isEmpty();
   }
 
+  @Test
+  void filterDuplicates_shouldDropWorksLinkedToInstances_andInstancesLinkedToRemainingWorks() {
+    // given
+    var instance1 = new Resource().setId(1L).addType(INSTANCE);
+    var linkedWork = new Resource().setId(2L).addType(WORK);
+    instance1.addOutgoingEdge(new ResourceEdge(instance1, new Resource().setId(2L).addType(WORK), INSTANTIATES));
+    var instance2 = new Resource().setId(3L).addType(INSTANCE);
+    var workWithInstance = new Resource().setId(4L).addType(WORK);
+    workWithInstance.getIncomingEdges()
+      .add(new ResourceEdge(new Resource().setId(3L).addType(INSTANCE), workWithInstance, INSTANTIATES));
+    var standaloneWork = new Resource().setId(5L).addType(WORK);
+
+    // when
+    var result = Rdf4LdMapperImpl.filterDuplicates(
+      Set.of(instance1, linkedWork, instance2, workWithInstance, standaloneWork));
+
+    // then
+    assertThat(result).containsExactlyInAnyOrder(instance1, workWithInstance, standaloneWork);
+  }
+
+  @Test
+  void filterDuplicates_shouldKeepOneResourceOfEveryInstanceWorkPair_forThousandTopResources() {
+    // given
+    var all = instanceWorkPairs(500);
+
+    // when
+    var result = Rdf4LdMapperImpl.filterDuplicates(all);
+
+    // then
+    assertThat(result).hasSize(500);
+    assertThat(result).filteredOn(r -> r.isOfType(INSTANCE)).hasSize(250);
+    assertThat(result).filteredOn(r -> r.isOfType(WORK)).hasSize(250);
+  }
+
 }
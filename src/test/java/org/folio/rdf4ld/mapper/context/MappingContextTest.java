@@ -0,0 +1,218 @@
+package org.folio.rdf4ld.mapper.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.rdf4j.model.util.Values.iri;
+import static org.folio.ld.dictionary.PredicateDictionary.FOCUS;
+import static org.folio.ld.dictionary.PredicateDictionary.INSTANTIATES;
+import static org.folio.ld.dictionary.PredicateDictionary.SUBJECT;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.MOCKED_RESOURCE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.rdf4j.model.util.ModelBuilder;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.mapper.plan.BfResourcePlan;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class MappingContextTest {
+
+  private static final String WORK = "http://id.loc.gov/ontologies/bibframe/Work";
+  private static final String MONOGRAPH = "http://id.loc.gov/ontologies/bibframe/Monograph";
+  private static final String UNKNOWN = "http://id.loc.gov/ontologies/bibframe/Unknown";
+  private final MappingContext context = MappingContext.of(new ModelBuilder()
+    .subject("http://example.org/work1").add(RDF.TYPE, iri(WORK)).add(RDF.TYPE, iri(MONOGRAPH))
+    .subject("http://example.org/work2").add(RDF.TYPE, iri(WORK))
+    .build());
+
+  @Test
+  void getTypes_shouldReturnAllTypesOfTheNode() {
+    // when
+    var types = context.getTypes(iri("http://example.org/work1"));
+
+    // then
+    assertThat(types.size()).isEqualTo(2);
+    assertThat(types.contains(WORK)).isTrue();
+    assertThat(types.contains(UNKNOWN)).isFalse();
+    assertThat(types.stream()).containsExactlyInAnyOrder(WORK, MONOGRAPH);
+    assertThat(context.getTypes(iri("http://example.org/untyped")).isEmpty()).isTrue();
+  }
+
+  @Test
+  void matchesTypes_shouldCompareWholeTypeSet_forExactMatch() {
+    // given
+    var plan = plan(Set.of(WORK), false);
+
+    // then
+    assertThat(context.matchesTypes(iri("http://example.org/work2"), plan)).isTrue();
+    assertThat(context.matchesTypes(iri("http://example.org/work1"), plan)).isFalse();
+  }
+
+  @Test
+  void matchesTypes_shouldRequireOnlyDefinedTypes_forPartialMatch() {
+    // given
+    var plan = plan(Set.of(WORK), true);
+
+    // then
+    assertThat(context.matchesTypes(iri("http://example.org/work1"), plan)).isTrue();
+    assertThat(context.matchesTypes(iri("http://example.org/work2"), plan)).isTrue();
+    assertThat(context.matchesTypes(iri("http://example.org/untyped"), plan)).isFalse();
+  }
+
+  @Test
+  void matchesTypes_shouldNotMatch_whenDefinedTypeIsNotInModel() {
+    // given
+    var plan = plan(Set.of(WORK, UNKNOWN), true);
+
+    // then
+    assertThat(context.matchesTypes(iri("http://example.org/work1"), plan)).isFalse();
+  }
+
+  @Test
+  void mapOnce_shouldMapNodeOncePerPlan_andReuseTheResult() {
+    // given
+    var plan = mock(ResourceMappingPlan.class);
+    var otherPlan = mock(ResourceMappingPlan.class);
+    var node = iri("http://example.org/work1");
+    var calls = new AtomicInteger();
+
+    // when
+    var first = context.mapOnce(node, plan, () -> mapped(calls, new Resource().setId(1L)));
+    var second = context.mapOnce(node, plan, () -> mapped(calls, new Resource().setId(2L)));
+    var other = context.mapOnce(node, otherPlan, () -> mapped(calls, new Resource().setId(3L)));
+
+    // then
+    assertThat(calls).hasValue(2);
+    assertThat(second).containsSame(first.orElseThrow());
+    assertThat(other.map(Resource::getId)).contains(3L);
+  }
+
+  @Test
+  void mapOnce_shouldNotReuse_whileLoopIsFollowed() {
+    // given
+    var plan = mock(ResourceMappingPlan.class);
+    var node = iri("http://example.org/work1");
+    var calls = new AtomicInteger();
+
+    // when
+    assertThat(context.enterLoop(node, plan)).isTrue();
+    assertThat(context.enterLoop(node, plan)).isFalse();
+    context.mapOnce(node, plan, () -> mapped(calls, new Resource()));
+    context.mapOnce(node, plan, () -> mapped(calls, new Resource()));
+    context.leaveLoop(node, plan);
+    context.mapOnce(node, plan, () -> mapped(calls, new Resource()));
+    context.mapOnce(node, plan, () -> mapped(calls, new Resource()));
+
+    // then
+    assertThat(calls).hasValue(3);
+  }
+
+  @Test
+  void mapOnce_shouldNotKeepResultWithMockedResource() {
+    // given
+    var plan = mock(ResourceMappingPlan.class);
+    var node = iri("http://example.org/work1");
+    var calls = new AtomicInteger();
+    var work = new Resource().setId(1L);
+    var mocked = new Resource().setId(2L).addType(MOCKED_RESOURCE);
+    work.addOutgoingEdge(new ResourceEdge(work, mocked, SUBJECT));
+
+    // when
+    context.mapOnce(node, plan, () -> mapped(calls, work));
+    context.mapOnce(node, plan, () -> mapped(calls, new Resource()));
+
+    // then
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void assignIds_shouldHashEveryDirtyResourceOnce_childrenFirst() {
+    // given
+    var hashService = mock(FingerprintHashService.class);
+    var hashed = new ArrayList<Resource>();
+    when(hashService.hash(any())).thenAnswer(inv -> {
+      Resource resource = inv.getArgument(0);
+      hashed.add(resource);
+      return 100L + hashed.size();
+    });
+    var parent = context.markDirty(new Resource());
+    var child = context.markDirty(new Resource());
+    parent.addOutgoingEdge(new ResourceEdge(parent, child, FOCUS));
+    parent.addOutgoingEdge(new ResourceEdge(parent, child, SUBJECT));
+
+    // when
+    context.assignIds(List.of(parent, child), hashService);
+
+    // then
+    assertThat(hashed).containsExactly(child, parent);
+    assertThat(child.getId()).isEqualTo(101L);
+    assertThat(parent.getId()).isEqualTo(102L);
+    assertThat(parent.getOutgoingEdges()).hasSize(2);
+  }
+
+  @Test
+  void assignIds_shouldLeaveEdgeToPendingResourceOutOfHash_forSourceOfIncomingEdge() {
+    // given
+    var hashService = mock(FingerprintHashService.class);
+    var edgesAtHash = new ArrayList<Integer>();
+    when(hashService.hash(any())).thenAnswer(inv -> {
+      Resource resource = inv.getArgument(0);
+      edgesAtHash.add(resource.getOutgoingEdges().size() + resource.getIncomingEdges().size());
+      return 100L + edgesAtHash.size();
+    });
+    var work = context.markDirty(new Resource());
+    var instance = context.markDirty(new Resource());
+    var instantiates = new ResourceEdge(instance, work, INSTANTIATES);
+    work.getIncomingEdges().add(instantiates);
+    instance.addOutgoingEdge(instantiates);
+
+    // when
+    context.assignIds(List.of(work), hashService);
+
+    // then
+    assertThat(edgesAtHash).containsExactly(0, 1);
+    assertThat(instance.getId()).isEqualTo(101L);
+    assertThat(work.getId()).isEqualTo(102L);
+    assertThat(instance.getOutgoingEdges()).containsExactly(new ResourceEdge(instance, work, INSTANTIATES));
+  }
+
+  @Test
+  void assignIds_shouldKeepIdGivenAfterMarking() {
+    // given
+    var hashService = mock(FingerprintHashService.class);
+    var mocked = context.markDirty(new Resource()).setId(42L);
+
+    // when
+    context.assignIds(List.of(mocked), hashService);
+
+    // then
+    assertThat(mocked.getId()).isEqualTo(42L);
+    verify(hashService, never()).hash(any());
+  }
+
+  private Optional<Resource> mapped(AtomicInteger calls, Resource resource) {
+    calls.incrementAndGet();
+    return Optional.of(resource);
+  }
+
+  private BfResourcePlan plan(Set<String> typeSet, boolean partial) {
+    var plan = mock(BfResourcePlan.class);
+    doReturn(typeSet).when(plan).getTypeSet();
+    doReturn(partial).when(plan).isPartialTypesMatch();
+    return plan;
+  }
+}
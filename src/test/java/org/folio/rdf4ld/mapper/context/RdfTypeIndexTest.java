@@ -0,0 +1,58 @@
+package org.folio.rdf4ld.mapper.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.rdf4j.model.util.Values.iri;
+
+import java.util.List;
+import java.util.Set;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.util.ModelBuilder;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.RDFS;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class RdfTypeIndexTest {
+
+  private static final String INSTANCE = "http://id.loc.gov/ontologies/bibframe/Instance";
+  private static final String WORK = "http://id.loc.gov/ontologies/bibframe/Work";
+  private static final String MONOGRAPH = "http://id.loc.gov/ontologies/bibframe/Monograph";
+  private final Model model = new ModelBuilder()
+    .subject("http://example.org/instance").add(RDF.TYPE, iri(INSTANCE))
+    .subject("http://example.org/work1").add(RDF.TYPE, iri(WORK)).add(RDF.TYPE, iri(MONOGRAPH))
+    .subject("http://example.org/work2").add(RDF.TYPE, iri(WORK))
+    .subject("http://example.org/untyped").add(RDFS.LABEL, "label")
+    .build();
+
+  @Test
+  void selectSubjects_shouldReturnSubjectsHavingAllTypes_forEverySelectionOfTheRun() {
+    // given
+    var index = RdfTypeIndex.of(model);
+
+    // then
+    assertThat(index.selectSubjects(List.of(INSTANCE))).containsExactly(iri("http://example.org/instance"));
+    assertThat(index.selectSubjects(List.of(WORK)))
+      .containsExactly(iri("http://example.org/work1"), iri("http://example.org/work2"));
+    assertThat(index.selectSubjects(List.of(WORK, MONOGRAPH))).containsExactly(iri("http://example.org/work1"));
+    assertThat(index.selectSubjects(List.of(INSTANCE, WORK))).isEmpty();
+  }
+
+  @Test
+  void selectSubjects_shouldReturnNothing_forUnknownType() {
+    // given
+    var index = RdfTypeIndex.of(model);
+
+    // then
+    assertThat(index.selectSubjects(Set.of("http://example.org/Unknown", WORK))).isEmpty();
+  }
+
+  @Test
+  void selectSubjects_shouldReturnAllSubjects_forEmptyTypeSet() {
+    // given
+    var index = RdfTypeIndex.of(model);
+
+    // then
+    assertThat(index.selectSubjects(Set.of())).hasSize(4);
+  }
+}
@@ -0,0 +1,86 @@
+package org.folio.rdf4ld.mapper.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ld.dictionary.PredicateDictionary.PE_PUBLICATION;
+import static org.folio.ld.dictionary.PredicateDictionary.PROVIDER_PLACE;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.INSTANCE;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.MOCKED_RESOURCE;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.PLACE;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.PROVIDER_EVENT;
+
+import java.util.List;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class ResourcePoolTest {
+
+  private final ResourcePool pool = new ResourcePool();
+
+  @Test
+  void canonicalize_shouldShareResourcesOfSameId_acrossConversions() {
+    // given
+    var first = instance(1L, publication(10L, new Resource().setId(100L).addType(PLACE)));
+    var second = instance(2L, publication(10L, new Resource().setId(100L).addType(PLACE)));
+
+    // when
+    pool.canonicalize(List.of(first));
+    pool.canonicalize(List.of(second));
+
+    // then
+    assertThat(target(second)).isSameAs(target(first));
+    assertThat(target(target(first))).isSameAs(target(target(second)));
+    assertThat(pool.size()).isEqualTo(2);
+  }
+
+  @Test
+  void canonicalize_shouldNotShareMockedResourcesAndTheirParents() {
+    // given
+    var first = instance(1L, publication(10L, new Resource().setId(100L).addType(MOCKED_RESOURCE)));
+    var second = instance(2L, publication(10L, new Resource().setId(100L).addType(MOCKED_RESOURCE)));
+
+    // when
+    pool.canonicalize(List.of(first));
+    pool.canonicalize(List.of(second));
+
+    // then
+    assertThat(target(second)).isNotSameAs(target(first));
+    assertThat(pool.size()).isZero();
+  }
+
+  @Test
+  void canonicalize_shouldNotShareResourcesWithIncomingEdges() {
+    // given
+    var first = instance(1L, publication(10L, new Resource().setId(100L).addType(PLACE)));
+    var second = instance(2L, publication(10L, new Resource().setId(100L).addType(PLACE)));
+    var secondPublication = target(second);
+    secondPublication.getIncomingEdges().add(new ResourceEdge(new Resource().setId(3L), secondPublication,
+      PE_PUBLICATION));
+
+    // when
+    pool.canonicalize(List.of(first));
+    pool.canonicalize(List.of(second));
+
+    // then
+    assertThat(target(second)).isSameAs(secondPublication);
+    assertThat(target(secondPublication)).isSameAs(target(target(first)));
+  }
+
+  private Resource instance(Long id, Resource publication) {
+    var instance = new Resource().setId(id).addType(INSTANCE);
+    instance.addOutgoingEdge(new ResourceEdge(instance, publication, PE_PUBLICATION));
+    return instance;
+  }
+
+  private Resource publication(Long id, Resource place) {
+    var publication = new Resource().setId(id).addType(PROVIDER_EVENT);
+    publication.addOutgoingEdge(new ResourceEdge(publication, place, PROVIDER_PLACE));
+    return publication;
+  }
+
+  private Resource target(Resource resource) {
+    return resource.getOutgoingEdges().iterator().next().getTarget();
+  }
+}
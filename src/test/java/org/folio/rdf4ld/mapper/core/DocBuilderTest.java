@@ -0,0 +1,48 @@
+package org.folio.rdf4ld.mapper.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+
+@UnitTest
+class DocBuilderTest {
+
+  @Test
+  void build_shouldReturnNull_whenNothingAdded() {
+    assertThat(new DocBuilder().build()).isNull();
+  }
+
+  @Test
+  void build_shouldKeepDistinctValuesInInsertionOrder() {
+    // given
+    var doc = new DocBuilder();
+
+    // when
+    doc.add("key1", "b");
+    doc.add("key1", "a");
+    doc.add("key1", "b");
+    doc.add("key2", "c");
+
+    // then
+    var result = doc.build();
+    assertThat(result.size()).isEqualTo(2);
+    assertThat(result.get("key1").values().stream().map(JsonNode::asString)).containsExactly("b", "a");
+    assertThat(result.get("key2").values().stream().map(JsonNode::asString)).containsExactly("c");
+  }
+
+  @Test
+  void build_shouldKeepDistinctValues_forManyValuesOfProperty() {
+    // given
+    var doc = new DocBuilder();
+
+    // when
+    IntStream.range(0, 100).forEach(i -> doc.add("key", "value" + i % 50));
+
+    // then
+    var values = doc.build().get("key").values().stream().map(JsonNode::asString).toList();
+    assertThat(values).containsExactlyElementsOf(IntStream.range(0, 50).mapToObj(i -> "value" + i).toList());
+  }
+}
@@ -0,0 +1,162 @@
+package org.folio.rdf4ld.mapper.plan;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ld.dictionary.PredicateDictionary.INSTANTIATES;
+import static org.folio.ld.dictionary.PredicateDictionary.TITLE;
+import static org.folio.ld.dictionary.PropertyDictionary.MAIN_TITLE;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.INSTANCE;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.WORK;
+import static org.folio.rdf4ld.test.TestUtil.emptyMapper;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Set;
+import org.eclipse.rdf4j.model.util.Values;
+import org.folio.ld.dictionary.ResourceTypeDictionary;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.rdf4ld.mapper.unit.RdfMapperUnitProvider;
+import org.folio.rdf4ld.model.BfResourceDef;
+import org.folio.rdf4ld.model.LdResourceDef;
+import org.folio.rdf4ld.model.MappingProfile;
+import org.folio.rdf4ld.model.PropertyMapping;
+import org.folio.rdf4ld.model.ResourceInternalMapping;
+import org.folio.rdf4ld.model.ResourceMapping;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class MappingPlanProviderTest {
+
+  private static final String BF_TITLE = "http://id.loc.gov/ontologies/bibframe/title";
+  private static final String BF_MAIN_TITLE = "http://id.loc.gov/ontologies/bibframe/mainTitle";
+  private static final String BF_TITLE_TYPE = "http://id.loc.gov/ontologies/bibframe/Title";
+
+  private MappingPlanProviderImpl mappingPlanProvider;
+  @Mock
+  private RdfMapperUnitProvider rdfMapperUnitProvider;
+
+  @BeforeEach
+  void setUp() {
+    mappingPlanProvider = new MappingPlanProviderImpl(rdfMapperUnitProvider);
+  }
+
+  @Test
+  void getTopPlans_shouldCompileWholeProfileOnceAndReuseIt() {
+    // given
+    var titleMapping = titleMapping();
+    var workMapping = new ResourceMapping()
+      .ldResourceDef(new LdResourceDef().addTypeSetItem(WORK).predicate(INSTANTIATES))
+      .bfResourceDef(new BfResourceDef())
+      .resourceMapping(new ResourceInternalMapping().addOutgoingEdgesItem(titleMapping));
+    var profile = new MappingProfile().addTopResourceMappingsItem(workMapping).addTopResourceMappingsItem(titleMapping);
+    var unit = emptyMapper();
+    doReturn(unit).when(rdfMapperUnitProvider).getMapper(any(), any());
+
+    // when
+    var topPlans = mappingPlanProvider.getTopPlans(profile);
+    var topPlansAgain = mappingPlanProvider.getTopPlans(profile);
+
+    // then
+    assertThat(topPlansAgain).isSameAs(topPlans);
+    var workPlan = topPlans.getFirst();
+    var titlePlan = topPlans.getLast();
+    assertThat(workPlan.getMapping()).isSameAs(workMapping);
+    assertThat(workPlan.getOutgoingEdges()).containsExactly(titlePlan);
+    assertThat(workPlan.getOutgoingEdge(0)).isSameAs(titlePlan);
+    assertThat(workPlan.getOutgoingEdge(1)).isNull();
+    assertThat(titlePlan.getMapperUnit()).isSameAs(unit);
+    assertThat(workPlan.isLooped()).isFalse();
+    verify(rdfMapperUnitProvider, times(2)).getMapper(any(), any());
+  }
+
+  @Test
+  void getTopPlans_shouldPreResolveIrisAndProperties() {
+    // given
+    var titleMapping = titleMapping();
+
+    // when
+    var plan = topPlan(titleMapping);
+
+    // then
+    assertThat(plan.getBfResource().getPredicateIri()).isEqualTo(Values.iri(BF_TITLE));
+    assertThat(plan.getBfResource().getTypeIris()).containsExactly(Values.iri(BF_TITLE_TYPE));
+    assertThat(plan.getProperties()).hasSize(1);
+    var property = plan.getProperties().getFirst();
+    assertThat(property.getBfPropertyIri()).isEqualTo(Values.iri(BF_MAIN_TITLE));
+    assertThat(property.getLdKey()).isEqualTo(MAIN_TITLE.getValue());
+    assertThat(property.isSubjectIri()).isFalse();
+    assertThat(property.getMapping()).isSameAs(titleMapping.getResourceMapping().getProperties().getFirst());
+  }
+
+  @Test
+  void getTopPlans_shouldCompileAndMarkLoopedMappings() {
+    // given
+    var instanceMapping = new ResourceMapping()
+      .ldResourceDef(new LdResourceDef().addTypeSetItem(INSTANCE))
+      .bfResourceDef(new BfResourceDef());
+    var workMapping = new ResourceMapping()
+      .ldResourceDef(new LdResourceDef().addTypeSetItem(WORK).predicate(INSTANTIATES))
+      .bfResourceDef(new BfResourceDef())
+      .resourceMapping(new ResourceInternalMapping().addIncomingEdgesItem(instanceMapping));
+    instanceMapping.resourceMapping(new ResourceInternalMapping().addOutgoingEdgesItem(workMapping));
+
+    // when
+    var instancePlan = topPlan(instanceMapping);
+
+    // then
+    var workPlan = instancePlan.getOutgoingEdges().getFirst();
+    assertThat(workPlan.getIncomingEdges()).containsExactly(instancePlan);
+    assertThat(instancePlan.isLooped()).isTrue();
+    assertThat(workPlan.isLooped()).isTrue();
+  }
+
+  @Test
+  void bfResourcePlan_shouldMatchTypesAccordingToDefinition() {
+    // given
+    var exact = new BfResourcePlan(new BfResourceDef().addTypeSetItem("a").addTypeSetItem("b"));
+    var partial = new BfResourcePlan(new BfResourceDef().addTypeSetItem("a").partialTypesMatch(true));
+    var ignored = new BfResourcePlan(new BfResourceDef().addTypeSetItem("a").ignoreTypesMatch(true));
+
+    // then
+    assertThat(exact.matchesTypes(Set.of("a", "b"))).isTrue();
+    assertThat(exact.matchesTypes(Set.of("a", "b", "c"))).isFalse();
+    assertThat(partial.matchesTypes(Set.of("a", "c"))).isTrue();
+    assertThat(partial.matchesTypes(Set.of("c"))).isFalse();
+    assertThat(ignored.matchesTypes(Set.of())).isTrue();
+  }
+
+  @Test
+  void resourceMappingPlan_shouldMatchEdgeByPredicateAndTypes() {
+    // given
+    var plan = topPlan(titleMapping());
+    var source = new Resource().setId(1L);
+    var title = new Resource().setId(2L).setTypes(Set.of(ResourceTypeDictionary.TITLE));
+    var work = new Resource().setId(3L).setTypes(Set.of(WORK));
+
+    // then
+    assertThat(plan.matchesEdge(new ResourceEdge(source, title, TITLE))).isTrue();
+    assertThat(plan.matchesEdge(new ResourceEdge(source, work, TITLE))).isFalse();
+    assertThat(plan.matchesEdge(new ResourceEdge(source, title, INSTANTIATES))).isFalse();
+  }
+
+  private ResourceMappingPlan topPlan(ResourceMapping mapping) {
+    return mappingPlanProvider.getTopPlans(new MappingProfile().addTopResourceMappingsItem(mapping)).getFirst();
+  }
+
+  private ResourceMapping titleMapping() {
+    return new ResourceMapping()
+      .ldResourceDef(new LdResourceDef().addTypeSetItem(ResourceTypeDictionary.TITLE).predicate(TITLE))
+      .bfResourceDef(new BfResourceDef().addTypeSetItem(BF_TITLE_TYPE).predicate(BF_TITLE))
+      .resourceMapping(new ResourceInternalMapping()
+        .addPropertiesItem(new PropertyMapping().ldProperty(MAIN_TITLE).bfProperty(BF_MAIN_TITLE)));
+  }
+
+}
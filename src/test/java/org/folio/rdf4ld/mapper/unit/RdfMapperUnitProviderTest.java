@@ -0,0 +1,105 @@
+package org.folio.rdf4ld.mapper.unit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.ld.dictionary.PredicateDictionary.CREATOR;
+import static org.folio.ld.dictionary.PredicateDictionary.INSTANTIATES;
+import static org.folio.ld.dictionary.PredicateDictionary.TITLE;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.INSTANCE;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.WORK;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.eclipse.rdf4j.model.util.ModelBuilder;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.rdf4ld.mapper.context.MappingContext;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+@UnitTest
+class RdfMapperUnitProviderTest {
+
+  private final BaseRdfMapperUnit baseMapperUnit = mock(BaseRdfMapperUnit.class);
+
+  @Test
+  void getMapper_shouldResolveUnitsByTypesAndPredicate() {
+    // given
+    var work = new WorkUnit();
+    var creator = new CreatorUnit();
+    var provider = createProvider(work, creator);
+    provider.afterSingletonsInstantiated();
+
+    // then
+    assertThat(provider.getMapper(List.of(WORK), INSTANTIATES)).isSameAs(work);
+    assertThat(provider.getMapper(List.of(WORK, WORK), null)).isSameAs(work);
+    assertThat(provider.getMapper(List.of(), INSTANTIATES)).isSameAs(work);
+    assertThat(provider.getMapper(List.of(), CREATOR)).isSameAs(creator);
+  }
+
+  @Test
+  void getMapper_shouldFallBackToBaseUnit() {
+    // given
+    var provider = createProvider(new WorkUnit(), new CreatorUnit());
+
+    // then
+    assertThat(provider.getMapper(List.of(WORK), TITLE)).isSameAs(baseMapperUnit);
+    assertThat(provider.getMapper(List.of(INSTANCE), null)).isSameAs(baseMapperUnit);
+    assertThat(provider.getMapper(List.of(), TITLE)).isSameAs(baseMapperUnit);
+    assertThat(provider.getMapper(List.of(), null)).isSameAs(baseMapperUnit);
+  }
+
+  @Test
+  void afterSingletonsInstantiated_shouldFailOnAmbiguousDefinitions() {
+    // given
+    var provider = createProvider(new WorkUnit(), new AnotherWorkUnit());
+
+    // then
+    assertThatThrownBy(provider::afterSingletonsInstantiated)
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessageContaining("Ambiguous RdfMapperDefinition");
+  }
+
+  private RdfMapperUnitProviderImpl createProvider(RdfMapperUnit... units) {
+    var beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("baseRdfMapperUnit", baseMapperUnit);
+    Stream.of(units).forEach(unit -> beanFactory.addBean(unit.getClass().getSimpleName(), unit));
+    return new RdfMapperUnitProviderImpl(beanFactory.getBeanProvider(BaseRdfMapperUnit.class),
+      beanFactory.getBeanProvider(RdfMapperUnit.class));
+  }
+
+  private abstract static class TestUnit implements RdfMapperUnit {
+
+    @Override
+    public Optional<Resource> mapToLd(MappingContext context,
+                                      org.eclipse.rdf4j.model.Resource resource,
+                                      ResourceMappingPlan plan,
+                                      Resource parent) {
+      return Optional.empty();
+    }
+
+    @Override
+    public void mapToBibframe(Resource resource,
+                              ModelBuilder modelBuilder,
+                              ResourceMappingPlan plan,
+                              Resource parent) {
+      // no-op
+    }
+  }
+
+  @RdfMapperDefinition(types = WORK, predicate = INSTANTIATES)
+  private static final class WorkUnit extends TestUnit {
+  }
+
+  @RdfMapperDefinition(types = WORK, predicate = INSTANTIATES)
+  private static final class AnotherWorkUnit extends TestUnit {
+  }
+
+  @RdfMapperDefinition(predicate = CREATOR)
+  private static final class CreatorUnit extends TestUnit {
+  }
+
+}
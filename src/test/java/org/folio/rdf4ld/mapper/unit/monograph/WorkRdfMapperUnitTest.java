@@ -2,20 +2,19 @@ package org.folio.rdf4ld.mapper.unit.monograph;
 
 import static java.util.Optional.of;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
-import static org.mockito.Mockito.doAnswer;
+import static org.eclipse.rdf4j.model.util.Values.iri;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
-import java.util.Set;
 import java.util.function.LongFunction;
-import org.eclipse.rdf4j.model.Model;
-import org.eclipse.rdf4j.model.Statement;
-import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.folio.ld.dictionary.model.Resource;
 import org.folio.ld.fingerprint.service.FingerprintHashService;
+import org.folio.rdf4ld.mapper.context.MappingContext;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.folio.rdf4ld.mapper.unit.BaseRdfMapperUnit;
-import org.folio.rdf4ld.model.ResourceMapping;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,28 +36,26 @@ class WorkRdfMapperUnitTest {
   private LongFunction<String> resourceUrlProvider;
 
   @Test
-  void mapToLd_shouldKeepLabelAndRecalculateId() {
+  void mapToLd_shouldKeepLabelAndLeaveIdToBeAssignedAtTheEndOfMapping() {
     // given
-    var model = mock(Model.class);
-    var resource = mock(org.eclipse.rdf4j.model.Resource.class);
-    var mapping = mock(ResourceMapping.class);
-    var mappedResource = new Resource()
-      .setId(123L)
-      .setLabel("mapped label");
-    doReturn(of(mappedResource)).when(baseRdfMapperUnit).mapToLd(model, resource, mapping, null);
+    var resource = iri("http://test.com/work");
+    var model = new ModelBuilder()
+      .add(resource, RDF.TYPE, iri("http://id.loc.gov/ontologies/bibframe/Monograph"))
+      .build();
+    var context = MappingContext.of(model);
+    var plan = mock(ResourceMappingPlan.class);
+    var mappedResource = context.markDirty(new Resource()
+      .setLabel("mapped label"));
+    doReturn(of(mappedResource)).when(baseRdfMapperUnit).mapToLd(context, resource, plan, null);
     long newId = 789L;
     doReturn(newId).when(hashService).hash(mappedResource);
-    doReturn(model).when(model).filter(resource, RDF.TYPE, null);
-    var statement = mock(Statement.class);
-    var value = mock(Value.class);
-    doReturn("http://id.loc.gov/ontologies/bibframe/Monograph").when(value).stringValue();
-    doReturn(value).when(statement).getObject();
-    doAnswer(invocation -> Set.of(statement).stream()).when(model).stream();
 
     // when
-    var result = workRdfMapperUnit.mapToLd(model, resource, mapping, null);
+    var result = workRdfMapperUnit.mapToLd(context, resource, plan, null);
+    context.assignIds(result.stream().toList(), hashService);
 
     // then
+    verify(hashService).hash(mappedResource);
     assertThat(result).isPresent()
       .hasValueSatisfying(w -> assertThat(w.getId()).isEqualTo(newId))
       .hasValueSatisfying(w -> assertThat(w.getLabel()).isEqualTo("mapped label"));
@@ -0,0 +1,68 @@
+package org.folio.rdf4ld.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.Rio;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@UnitTest
+class ChunkedRdfParserTest {
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void parse_shouldReturnSameModelAsSingleParser_forManySmallChunks() throws IOException {
+    // given
+    var file = tempDir.resolve("input.nt");
+    Files.writeString(file, IntStream.range(0, 500)
+      .mapToObj(i -> "<http://ex.org/i" + i + "> <http://ex.org/title> _:t" + i + " .\n"
+        + "_:t" + i + " <http://ex.org/mainTitle> \"Title \\n" + i + "\" .\n"
+        + "<http://ex.org/i" + i + "> <http://ex.org/agent> _:shared .\n")
+      .collect(Collectors.joining()));
+    var parser = new ChunkedRdfParser(8, 64);
+
+    // when
+    var result = parser.parse(file, RDFFormat.NTRIPLES);
+
+    // then
+    var expected = Rio.parse(Files.newInputStream(file), "", RDFFormat.NTRIPLES);
+    assertThat(result).hasSize(1500);
+    assertThat(Models.isomorphic(result, expected)).isTrue();
+  }
+
+  @Test
+  void parse_shouldReturnEmptyModel_forEmptyFile() throws IOException {
+    // given
+    var file = Files.createFile(tempDir.resolve("empty.nq"));
+
+    // when
+    var result = ChunkedRdfParser.ofAvailableProcessors().parse(file, RDFFormat.NQUADS);
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void parse_shouldThrowParseException_forInvalidLine() throws IOException {
+    // given
+    var file = tempDir.resolve("invalid.nt");
+    Files.writeString(file, "<http://ex.org/i1> <http://ex.org/p> \"a\" .\nnot a triple\n");
+    var parser = new ChunkedRdfParser(2, 1);
+
+    // then
+    assertThatThrownBy(() -> parser.parse(file, RDFFormat.NTRIPLES))
+      .isInstanceOf(RDFParseException.class);
+  }
+}
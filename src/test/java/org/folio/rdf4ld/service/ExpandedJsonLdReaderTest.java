@@ -0,0 +1,56 @@
+package org.folio.rdf4ld.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@UnitTest
+class ExpandedJsonLdReaderTest {
+
+  private final ExpandedJsonLdReader reader = new ExpandedJsonLdReader();
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "/rdf/multiple_top_resources.json",
+    "/rdf/instance/instance_titles.json",
+    "/rdf/instance/instance_provisions.json",
+    "/rdf/instance/instance_admin_metadata.json"
+  })
+  void read_shouldReturnStatementsOfGeneralParser_forFlatExpandedFixture(String fixture) throws IOException {
+    // given
+    var input = getClass().getResourceAsStream(fixture).readAllBytes();
+
+    // when
+    var result = reader.read(input);
+
+    // then
+    var expected = Rio.parse(new ByteArrayInputStream(input), "", RDFFormat.JSONLD);
+    assertThat(result).hasValueSatisfying(model -> assertThat(Models.isomorphic(model, expected)).isTrue());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "{\"@id\": \"http://ex.org/i1\"}",
+    "[{\"@context\": {\"bf\": \"http://ex.org/\"}, \"@id\": \"http://ex.org/i1\"}]",
+    "[{\"@id\": \"http://ex.org/i1\", \"http://ex.org/p\": [{\"@id\": \"_:b0\", \"http://ex.org/q\": []}]}]",
+    "[{\"@id\": \"http://ex.org/i1\", \"http://ex.org/p\": [{\"@list\": [{\"@value\": \"a\"}]}]}]",
+    "[{\"@id\": \"http://ex.org/i1\", \"http://ex.org/p\": [{\"@value\": 1}]}]",
+    "[{\"@id\": \"http://ex.org/i1\", \"http://ex.org/p\": \"a\"}]",
+    "[{\"@id\": \"http://ex.org/i1\""
+  })
+  void read_shouldReturnEmpty_forDocumentNeedingGeneralParser(String input) {
+    // when
+    var result = reader.read(input.getBytes(StandardCharsets.UTF_8));
+
+    // then
+    assertThat(result).isEmpty();
+  }
+}
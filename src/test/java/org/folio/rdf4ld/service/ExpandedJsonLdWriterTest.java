@@ -0,0 +1,110 @@
+package org.folio.rdf4ld.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.rdf4j.model.util.Values.bnode;
+import static org.eclipse.rdf4j.model.util.Values.iri;
+import static org.eclipse.rdf4j.model.util.Values.literal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.util.ModelBuilder;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.WriterConfig;
+import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
+import org.eclipse.rdf4j.rio.helpers.JSONLDMode;
+import org.eclipse.rdf4j.rio.helpers.JSONLDSettings;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@UnitTest
+class ExpandedJsonLdWriterTest {
+
+  private final ExpandedJsonLdWriter writer = new ExpandedJsonLdWriter();
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "/rdf/multiple_top_resources.json",
+    "/rdf/instance/instance_titles.json",
+    "/rdf/instance/instance_provisions.json"
+  })
+  void write_shouldWriteSameGraph_forFixture(String fixture) throws IOException {
+    // given
+    var model = Rio.parse(getClass().getResourceAsStream(fixture), "", RDFFormat.JSONLD);
+
+    // when
+    var result = write(model, new WriterConfig());
+
+    // then
+    assertThat(Models.isomorphic(parse(result), model)).isTrue();
+  }
+
+  @Test
+  void write_shouldWriteSameGraph_forTypedAndLanguageLiteralsAndBlankNodes() throws IOException {
+    // given
+    var note = bnode();
+    var model = new ModelBuilder()
+      .subject("http://ex.org/i1")
+      .add(RDF.TYPE, iri("http://ex.org/Instance"))
+      .add("http://ex.org/title", literal("Titre", "fr"))
+      .add("http://ex.org/date", literal("2024", XSD.GYEAR))
+      .add("http://ex.org/note", note)
+      .subject(note)
+      .add(RDF.TYPE, literal("not an IRI"))
+      .add("http://ex.org/label", "Note")
+      .build();
+
+    // when
+    var result = write(model, new WriterConfig());
+
+    // then
+    assertThat(Models.isomorphic(parse(result), model)).isTrue();
+  }
+
+  @Test
+  void write_shouldWriteSingleLine_withoutPrettyPrint() {
+    // given
+    var model = new ModelBuilder().add("http://ex.org/i1", "http://ex.org/p", "a").build();
+    var config = new WriterConfig();
+    config.set(BasicWriterSettings.PRETTY_PRINT, false);
+
+    // when
+    var result = write(model, config);
+
+    // then
+    assertThat(result).isEqualTo("[{\"@id\":\"http://ex.org/i1\",\"http://ex.org/p\":[{\"@value\":\"a\"}]}]");
+  }
+
+  @Test
+  void supports_shouldBeFalse_forCompactModeOrNamedGraphs() {
+    // given
+    var model = new ModelBuilder().add("http://ex.org/i1", "http://ex.org/p", "a").build();
+    var compact = new WriterConfig();
+    compact.set(JSONLDSettings.JSONLD_MODE, JSONLDMode.COMPACT);
+    var quads = new ModelBuilder().namedGraph("http://ex.org/g").add("http://ex.org/i1", "http://ex.org/p", "a")
+      .build();
+
+    // then
+    assertThat(writer.supports(model, new WriterConfig())).isTrue();
+    assertThat(writer.supports(model, compact)).isFalse();
+    assertThat(writer.supports(quads, new WriterConfig())).isFalse();
+  }
+
+  private String write(Model model, WriterConfig config) {
+    var output = new ByteArrayOutputStream();
+    writer.write(model, output, config);
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
+  private Model parse(String jsonLd) throws IOException {
+    return Rio.parse(new ByteArrayInputStream(jsonLd.getBytes(StandardCharsets.UTF_8)), "", RDFFormat.JSONLD);
+  }
+}
@@ -1,14 +1,21 @@
 package org.folio.rdf4ld.service;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.rdf4ld.util.JsonUtil.getJsonMapper;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
 import java.util.stream.Stream;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.WriterConfig;
 import org.eclipse.rdf4j.rio.helpers.BasicWriterSettings;
 import org.folio.rdf4ld.test.SpringTestConfig;
 import org.folio.spring.testing.type.IntegrationTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -60,6 +67,52 @@ class Rdf4LdServiceIT {
     assertThat(result.toString().lines().count()).isEqualTo(1);
   }
 
+  @ParameterizedTest
+  @MethodSource("exportProfileArgs")
+  void mapLdToBibframe2Rdf_returnsSameModelAsForString_forBytesBufferAndStreamInput(String fixture,
+                                                                                    String expectedBibframeType)
+    throws IOException {
+    // given
+    var bytes = getClass().getResourceAsStream(fixture).readAllBytes();
+    var direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+    var config = new WriterConfig();
+    var expected = rdf4LdService.mapLdToBibframe2Rdf(new String(bytes, UTF_8), RDFFormat.NTRIPLES, config);
+
+    // when
+    var fromBytes = rdf4LdService.mapLdToBibframe2Rdf(bytes, RDFFormat.NTRIPLES, config);
+    var fromBuffer = rdf4LdService.mapLdToBibframe2Rdf(direct, RDFFormat.NTRIPLES, config);
+    var fromStream = rdf4LdService.mapLdToBibframe2Rdf(new ByteArrayInputStream(bytes), RDFFormat.NTRIPLES, config);
+
+    // then
+    assertThat(expected.toString()).contains(expectedBibframeType);
+    assertThat(fromBytes.toString()).isEqualTo(expected.toString());
+    assertThat(fromBuffer.toString()).isEqualTo(expected.toString());
+    assertThat(fromStream.toString()).isEqualTo(expected.toString());
+    assertThat(direct.remaining()).isEqualTo(bytes.length);
+  }
+
+  @Test
+  void mapNdJsonLdToBibframe2Rdf_writesAllResources_forNewlineDelimitedInput() throws IOException {
+    // given
+    var books = getClass().getResourceAsStream("/rdf/instance/exported_books.json").readAllBytes();
+    var serial = getClass().getResourceAsStream("/rdf/instance/exported_serial.json").readAllBytes();
+    var jsonMapper = getJsonMapper();
+    var input = jsonMapper.readTree(books).toString() + "\n" + jsonMapper.readTree(serial).toString() + "\n";
+    var output = new ByteArrayOutputStream();
+
+    // when
+    rdf4LdService.mapNdJsonLdToBibframe2Rdf(new ByteArrayInputStream(input.getBytes(UTF_8)), RDFFormat.NTRIPLES,
+      output);
+
+    // then
+    var expected = new HashSet<String>();
+    rdf4LdService.mapLdToBibframe2Rdf(books, RDFFormat.NTRIPLES, new WriterConfig()).toString().lines()
+      .forEach(expected::add);
+    rdf4LdService.mapLdToBibframe2Rdf(serial, RDFFormat.NTRIPLES, new WriterConfig()).toString().lines()
+      .forEach(expected::add);
+    assertThat(output.toString(UTF_8).lines().toList()).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
   static Stream<Arguments> exportProfileArgs() {
     return Stream.of(
       Arguments.of("/rdf/instance/exported_books.json", "http://id.loc.gov/ontologies/bibframe/Monograph"),
@@ -2,15 +2,34 @@ package org.folio.rdf4ld.service;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.eclipse.rdf4j.model.util.Values.bnode;
+import static org.eclipse.rdf4j.model.util.Values.iri;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
 import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.WriterConfig;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
 import org.folio.ld.dictionary.ResourceTypeDictionary;
 import org.folio.ld.dictionary.model.Resource;
 import org.folio.rdf4ld.mapper.Rdf4LdMapper;
@@ -18,6 +37,8 @@ import org.folio.rdf4ld.model.MappingProfile;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -143,6 +164,42 @@ class Rdf4LdServiceTest {
       .hasMessageContaining("RDF parsing error");
   }
 
+  @Test
+  void mapBibframe2RdfToLd_passesMappedResourcesOfEveryRecord_forStreamedInput() {
+    // given
+    var input = new ByteArrayInputStream((
+      "<http://ex.org/i1> <http://ex.org/p> \"a\" <http://ex.org/g1> .\n"
+        + "<http://ex.org/i1> <http://ex.org/p> \"b\" <http://ex.org/g1> .\n"
+        + "<http://ex.org/i2> <http://ex.org/p> \"c\" <http://ex.org/g2> .\n"
+    ).getBytes(StandardCharsets.UTF_8));
+    var first = Set.of(mock(Resource.class));
+    var second = Set.of(mock(Resource.class));
+    when(rdf4LdMapper.mapBibframe2RdfToLd(any(Model.class))).thenReturn(first, second);
+    var records = new ArrayList<Set<Resource>>();
+
+    // when
+    rdf4LdService.mapBibframe2RdfToLd(input, "application/n-quads", records::add);
+
+    // then
+    assertThat(records).containsExactly(first, second);
+    var models = ArgumentCaptor.forClass(Model.class);
+    verify(rdf4LdMapper, times(2)).mapBibframe2RdfToLd(models.capture());
+    assertThat(models.getAllValues()).extracting(Model::size).containsExactly(2, 1);
+  }
+
+  @Test
+  void mapBibframe2RdfToLd_throwsException_whenStreamedInputIsInvalid() {
+    // given
+    var inputStream = this.getClass().getResourceAsStream("/rdf/invalid.json");
+    var contentType = "application/ld+json";
+
+    // when
+    assertThatThrownBy(() -> rdf4LdService.mapBibframe2RdfToLd(inputStream, contentType, records -> { }))
+      // then
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("RDF parsing error");
+  }
+
   @Test
   void mapLdToRdf_returnsSerializedModel_forValidInput() {
     // given
@@ -176,4 +233,115 @@ class Rdf4LdServiceTest {
     assertThat(result.size()).isGreaterThan(0);
   }
 
+  @Test
+  void mapLdToBibframe2Rdf_writesSerializedModelToOutput_forOutputStream() {
+    // given
+    var resource = new Resource().setTypes(Set.of(ResourceTypeDictionary.INSTANCE));
+    var model = new ModelBuilder()
+      .add("http://ex.org/i1", "http://ex.org/p", "a")
+      .build();
+    when(rdf4LdMapper.mapLdToBibframe2Rdf(resource)).thenReturn(model);
+    var output = new ByteArrayOutputStream();
+
+    // when
+    rdf4LdService.mapLdToBibframe2Rdf(resource, RDFFormat.NTRIPLES, new WriterConfig(), output);
+
+    // then
+    assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("<http://ex.org/i1> <http://ex.org/p> \"a\" .\n");
+  }
+
+  @Test
+  void mapLdToBibframe2Rdf_reportsStatementsToHandler_forRdfHandler() {
+    // given
+    var resource = new Resource().setTypes(Set.of(ResourceTypeDictionary.INSTANCE));
+    var model = new ModelBuilder()
+      .add("http://ex.org/i1", "http://ex.org/p", "a")
+      .add("http://ex.org/i1", "http://ex.org/p", "b")
+      .build();
+    when(rdf4LdMapper.mapLdToBibframe2Rdf(resource)).thenReturn(model);
+    var collector = new StatementCollector();
+
+    // when
+    rdf4LdService.mapLdToBibframe2Rdf(resource, collector);
+
+    // then
+    assertThat(collector.getStatements()).containsExactlyInAnyOrderElementsOf(model);
+  }
+
+  @Test
+  void mapLdToBibframe2Rdf_writesSharedStatementsOnce_forManyResources() {
+    // given
+    var first = new Resource().setId(1L).setTypes(Set.of(ResourceTypeDictionary.INSTANCE));
+    var second = new Resource().setId(2L).setTypes(Set.of(ResourceTypeDictionary.INSTANCE));
+    when(rdf4LdMapper.mapLdToBibframe2Rdf(first)).thenReturn(new ModelBuilder()
+      .add("http://ex.org/i1", "http://ex.org/p", iri("http://ex.org/agent"))
+      .add("http://ex.org/agent", "http://ex.org/name", "Agent")
+      .build());
+    when(rdf4LdMapper.mapLdToBibframe2Rdf(second)).thenReturn(new ModelBuilder()
+      .add("http://ex.org/i2", "http://ex.org/p", iri("http://ex.org/agent"))
+      .add("http://ex.org/agent", "http://ex.org/name", "Agent")
+      .build());
+    var output = new ByteArrayOutputStream();
+
+    // when
+    rdf4LdService.mapLdToBibframe2Rdf(List.of(first, second), RDFFormat.NTRIPLES, output);
+
+    // then
+    assertThat(output.toString(StandardCharsets.UTF_8).lines())
+      .hasSize(3)
+      .containsOnlyOnce("<http://ex.org/agent> <http://ex.org/name> \"Agent\" .");
+  }
+
+  @Test
+  void mapLdToBibframe2Rdf_keepsBlankNodesOfEveryResourceApart_forManyResources() throws IOException {
+    // given
+    var first = new Resource().setId(1L).setTypes(Set.of(ResourceTypeDictionary.WORK));
+    var second = new Resource().setId(2L).setTypes(Set.of(ResourceTypeDictionary.WORK));
+    when(rdf4LdMapper.mapLdToBibframe2Rdf(first)).thenReturn(new ModelBuilder()
+      .add("http://ex.org/w1", "http://ex.org/contribution", bnode("CREATOR_5"))
+      .add(bnode("CREATOR_5"), iri("http://ex.org/role"), iri("http://ex.org/aut"))
+      .build());
+    when(rdf4LdMapper.mapLdToBibframe2Rdf(second)).thenReturn(new ModelBuilder()
+      .add("http://ex.org/w2", "http://ex.org/contribution", bnode("CREATOR_5"))
+      .add(bnode("CREATOR_5"), iri("http://ex.org/role"), iri("http://ex.org/ill"))
+      .build());
+    var output = new ByteArrayOutputStream();
+
+    // when
+    rdf4LdService.mapLdToBibframe2Rdf(List.of(first, second), RDFFormat.NTRIPLES, output);
+
+    // then
+    var written = Rio.parse(new ByteArrayInputStream(output.toByteArray()), "", RDFFormat.NTRIPLES);
+    assertThat(written).hasSize(4);
+    assertThat(roles(written, "http://ex.org/w1")).containsExactly(iri("http://ex.org/aut"));
+    assertThat(roles(written, "http://ex.org/w2")).containsExactly(iri("http://ex.org/ill"));
+  }
+
+  @Test
+  void mapBibframe2RdfToLd_parsesFileInChunks_forNquadsFile(@TempDir Path tempDir) throws IOException {
+    // given
+    var file = tempDir.resolve("records.nq");
+    Files.writeString(file, """
+      <http://ex.org/i1> <http://ex.org/p> "a" <http://ex.org/g1> .
+      <http://ex.org/i2> <http://ex.org/p> "b" <http://ex.org/g2> .
+      """);
+    var resources = Set.of(new Resource().setId(1L));
+    when(rdf4LdMapper.mapBibframe2RdfToLd(any(Model.class))).thenReturn(resources);
+
+    // when
+    var result = rdf4LdService.mapBibframe2RdfToLd(file, "application/n-quads");
+
+    // then
+    assertThat(result).isSameAs(resources);
+    var models = ArgumentCaptor.forClass(Model.class);
+    verify(rdf4LdMapper).mapBibframe2RdfToLd(models.capture());
+    assertThat(models.getValue()).hasSize(2);
+    assertThat(models.getValue().contexts()).hasSize(2);
+  }
+
+  private Set<Value> roles(Model model, String work) {
+    return model.filter(iri(work), null, null).objects().stream()
+      .flatMap(contribution -> model.filter((BNode) contribution, iri("http://ex.org/role"), null).objects().stream())
+      .collect(Collectors.toSet());
+  }
 }
@@ -0,0 +1,181 @@
+package org.folio.rdf4ld.service.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.rdf4ld.config.AsyncMappingProperties;
+import org.folio.rdf4ld.config.AsyncMappingProperties.OverflowPolicy;
+import org.folio.rdf4ld.service.Rdf4LdService;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class Rdf4LdAsyncServiceTest {
+
+  private final Rdf4LdService rdf4LdService = mock(Rdf4LdService.class);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private Rdf4LdAsyncServiceImpl asyncService;
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    asyncService.shutdown();
+  }
+
+  @Test
+  void mapBibframe2RdfToLd_shouldCompleteWithResultOfService() {
+    // given
+    var service = service(false, OverflowPolicy.REJECT);
+    var resources = Set.of(new Resource().setId(1L));
+    when(rdf4LdService.mapBibframe2RdfToLd(any(InputStream.class), any())).thenReturn(resources);
+
+    // when
+    var result = service.mapBibframe2RdfToLd(InputStream.nullInputStream(), "application/ld+json");
+
+    // then
+    assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).isSameAs(resources);
+  }
+
+  @Test
+  void mapBibframe2RdfToLd_shouldReject_whenQueueIsFull() throws InterruptedException {
+    // given
+    var service = service(true, OverflowPolicy.REJECT);
+    var started = new CountDownLatch(1);
+    when(rdf4LdService.mapBibframe2RdfToLd(any(InputStream.class), any())).thenAnswer(inv -> {
+      started.countDown();
+      release.await();
+      return Set.of();
+    });
+    var accepted = new ArrayList<CompletableFuture<Set<Resource>>>();
+    accepted.add(service.mapBibframe2RdfToLd(InputStream.nullInputStream(), "application/ld+json"));
+    started.await();
+    accepted.add(service.mapBibframe2RdfToLd(InputStream.nullInputStream(), "application/ld+json"));
+
+    // when
+    var rejected = service.mapBibframe2RdfToLd(InputStream.nullInputStream(), "application/ld+json");
+
+    // then
+    assertThat(rejected).failsWithin(5, TimeUnit.SECONDS)
+      .withThrowableThat().withCauseInstanceOf(RejectedExecutionException.class);
+    assertThat(service.getStats()).isEqualTo(new AsyncMappingStats(1, 1, 0, 1));
+    release.countDown();
+    assertThat(accepted).allSatisfy(future -> assertThat(future).succeedsWithin(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void mapBibframe2RdfToLd_shouldFreeQueueSlot_whenQueuedConversionIsCancelled() throws InterruptedException {
+    // given
+    var service = service(false, OverflowPolicy.REJECT);
+    var started = new Semaphore(0);
+    var finish = new Semaphore(0);
+    when(rdf4LdService.mapBibframe2RdfToLd(any(InputStream.class), any())).thenAnswer(inv -> {
+      started.release();
+      finish.acquire();
+      return Set.of();
+    });
+    var running = service.mapBibframe2RdfToLd(InputStream.nullInputStream(), "application/ld+json");
+    started.acquire();
+    service.mapBibframe2RdfToLd(InputStream.nullInputStream(), "application/ld+json").cancel(true);
+    finish.release();
+    assertThat(running).succeedsWithin(5, TimeUnit.SECONDS);
+    var next = service.mapBibframe2RdfToLd(InputStream.nullInputStream(), "application/ld+json");
+    started.acquire();
+
+    // when
+    var queued = service.mapBibframe2RdfToLd(InputStream.nullInputStream(), "application/ld+json");
+
+    // then
+    finish.release(2);
+    assertThat(next).succeedsWithin(5, TimeUnit.SECONDS);
+    assertThat(queued).succeedsWithin(5, TimeUnit.SECONDS);
+    assertThat(service.getStats().rejected()).isZero();
+    verify(rdf4LdService, times(3)).mapBibframe2RdfToLd(any(InputStream.class), any());
+  }
+
+  @Test
+  void mapBibframe2RdfToLd_shouldBlockCaller_whenQueueIsFull() throws InterruptedException {
+    // given
+    var service = service(false, OverflowPolicy.BLOCK);
+    var started = new CountDownLatch(1);
+    when(rdf4LdService.mapBibframe2RdfToLd(any(InputStream.class), any())).thenAnswer(inv -> {
+      started.countDown();
+      release.await();
+      return Set.of();
+    });
+    service.mapBibframe2RdfToLd(InputStream.nullInputStream(), "application/ld+json");
+    started.await();
+    service.mapBibframe2RdfToLd(InputStream.nullInputStream(), "application/ld+json");
+    var submitted = new CountDownLatch(1);
+
+    // when
+    Thread.startVirtualThread(() -> {
+      service.mapBibframe2RdfToLd(InputStream.nullInputStream(), "application/ld+json");
+      submitted.countDown();
+    });
+
+    // then
+    assertThat(submitted.await(200, TimeUnit.MILLISECONDS)).isFalse();
+    release.countDown();
+    assertThat(submitted.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(service.getStats().rejected()).isZero();
+  }
+
+  @Test
+  void mapBibframe2RdfToLd_shouldReadInputBeforeReturning() throws InterruptedException {
+    // given
+    var service = service(false, OverflowPolicy.REJECT);
+    var started = new CountDownLatch(1);
+    when(rdf4LdService.mapBibframe2RdfToLd(any(InputStream.class), any())).thenAnswer(inv -> {
+      started.countDown();
+      release.await();
+      return Set.of();
+    });
+    service.mapBibframe2RdfToLd(InputStream.nullInputStream(), "application/ld+json");
+    started.await();
+    var input = new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8));
+
+    // when
+    var queued = service.mapBibframe2RdfToLd(input, "application/ld+json");
+
+    // then
+    assertThat(input.available()).isZero();
+    release.countDown();
+    assertThat(queued).succeedsWithin(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void mapBibframe2RdfToLd_shouldReject_afterShutdown() {
+    // given
+    var service = service(false, OverflowPolicy.BLOCK);
+    service.shutdown();
+
+    // when
+    var result = service.mapBibframe2RdfToLd(InputStream.nullInputStream(), "application/ld+json");
+
+    // then
+    assertThat(result).failsWithin(5, TimeUnit.SECONDS)
+      .withThrowableThat().withCauseInstanceOf(RejectedExecutionException.class);
+  }
+
+  private Rdf4LdAsyncServiceImpl service(boolean virtualThreads, OverflowPolicy overflowPolicy) {
+    var properties = new AsyncMappingProperties(true, 1, 1, virtualThreads, overflowPolicy);
+    asyncService = new Rdf4LdAsyncServiceImpl(rdf4LdService, properties);
+    return asyncService;
+  }
+}
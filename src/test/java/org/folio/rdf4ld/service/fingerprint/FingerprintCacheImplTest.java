@@ -0,0 +1,130 @@
+package org.folio.rdf4ld.service.fingerprint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.ld.dictionary.PredicateDictionary.FOCUS;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.CONCEPT;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.PERSON;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.rdf4ld.config.FingerprintCacheProperties;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+@UnitTest
+class FingerprintCacheImplTest {
+
+  private final AtomicLong hashes = new AtomicLong();
+  private final Function<Resource, Long> hasher = resource -> hashes.incrementAndGet();
+
+  @Test
+  void get_shouldHashResourceOfSameContentOnce() {
+    // given
+    var cache = new FingerprintCacheImpl(new FingerprintCacheProperties(true, 100));
+
+    // when
+    var first = cache.get(person("John"), hasher);
+    var second = cache.get(person("John"), hasher);
+    var other = cache.get(person("Jane"), hasher);
+
+    // then
+    assertThat(second).isEqualTo(first);
+    assertThat(other).isNotEqualTo(first);
+    assertThat(hashes).hasValue(2);
+    assertThat(cache.getStats()).isEqualTo(new FingerprintCacheStats(1, 2, 0, 2));
+  }
+
+  @Test
+  void get_shouldTellResourcesApartByEdgeEnds() {
+    // given
+    var cache = new FingerprintCacheImpl(new FingerprintCacheProperties(true, 100));
+
+    // when
+    var first = cache.get(concept(person("John").setId(1L)), hasher);
+    var second = cache.get(concept(person("John").setId(2L)), hasher);
+
+    // then
+    assertThat(second).isNotEqualTo(first);
+    assertThat(hashes).hasValue(2);
+  }
+
+  @Test
+  void get_shouldNotBeAffectedByChangesOfHashedResource() {
+    // given
+    var cache = new FingerprintCacheImpl(new FingerprintCacheProperties(true, 100));
+    var resource = person("John");
+    var id = cache.get(resource, hasher);
+
+    // when
+    ((ObjectNode) resource.getDoc()).put("name", "Jane");
+    var changed = cache.get(resource, hasher);
+    var original = cache.get(person("John"), hasher);
+
+    // then
+    assertThat(changed).isNotEqualTo(id);
+    assertThat(original).isEqualTo(id);
+  }
+
+  @Test
+  void get_shouldHashOnce_forDocsDifferingInPropertyOrderOnly() {
+    // given
+    var cache = new FingerprintCacheImpl(new FingerprintCacheProperties(true, 100));
+    var first = person("John");
+    ((ObjectNode) first.getDoc()).put("date", "1900");
+    var second = new Resource().addType(PERSON).setLabel("John")
+      .setDoc(JsonNodeFactory.instance.objectNode().put("date", "1900").put("name", "John"));
+
+    // when
+    var firstId = cache.get(first, hasher);
+    var secondId = cache.get(second, hasher);
+
+    // then
+    assertThat(secondId).isEqualTo(firstId);
+    assertThat(hashes).hasValue(1);
+  }
+
+  @Test
+  void get_shouldEvictLeastRecentlyUsed_whenMaximumSizeIsReached() {
+    // given
+    var cache = new FingerprintCacheImpl(new FingerprintCacheProperties(true, 1));
+
+    // when
+    cache.get(person("John"), hasher);
+    cache.get(person("Jane"), hasher);
+    cache.get(person("John"), hasher);
+
+    // then
+    assertThat(hashes).hasValue(3);
+    assertThat(cache.getStats().evictionCount()).isEqualTo(2);
+    assertThat(cache.getStats().size()).isEqualTo(1);
+  }
+
+  @Test
+  void get_shouldAlwaysHash_whenDisabled() {
+    // given
+    var cache = new FingerprintCacheImpl(new FingerprintCacheProperties(false, 100));
+
+    // when
+    cache.get(person("John"), hasher);
+    cache.get(person("John"), hasher);
+
+    // then
+    assertThat(hashes).hasValue(2);
+    assertThat(cache.getStats()).isEqualTo(new FingerprintCacheStats(0, 0, 0, 0));
+  }
+
+  private Resource person(String name) {
+    var doc = JsonNodeFactory.instance.objectNode().put("name", name);
+    return new Resource().addType(PERSON).setLabel(name).setDoc(doc);
+  }
+
+  private Resource concept(Resource focus) {
+    var concept = new Resource().addType(CONCEPT).setLabel(focus.getLabel());
+    concept.addOutgoingEdge(new ResourceEdge(concept, focus, FOCUS));
+    return concept;
+  }
+}
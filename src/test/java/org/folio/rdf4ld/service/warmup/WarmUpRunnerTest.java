@@ -0,0 +1,85 @@
+package org.folio.rdf4ld.service.warmup;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Set;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.folio.ld.dictionary.model.Resource;
+import org.folio.rdf4ld.config.WarmUpProperties;
+import org.folio.rdf4ld.service.Rdf4LdService;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class WarmUpRunnerTest {
+
+  @Mock
+  private Rdf4LdService rdf4LdService;
+
+  @Test
+  void onApplicationEvent_shouldMapRecordsInBothDirections_forConfiguredIterations() {
+    // given
+    var resource = new Resource();
+    when(rdf4LdService.mapBibframe2RdfToLd(any(), eq("application/ld+json"))).thenReturn(Set.of(resource));
+    var runner = runner(new WarmUpProperties(true, 3, Duration.ofMinutes(1), true));
+
+    // when
+    runner.onApplicationEvent(mock(ApplicationReadyEvent.class));
+    runner.onApplicationEvent(mock(ApplicationReadyEvent.class));
+
+    // then
+    verify(rdf4LdService, times(3)).mapBibframe2RdfToLd(any(), eq("application/ld+json"));
+    verify(rdf4LdService, times(3)).mapLdToBibframe2Rdf(resource, RDFFormat.JSONLD);
+  }
+
+  @Test
+  void onApplicationEvent_shouldWarmUpInBackground_whenNotBlocking() {
+    // given
+    var runner = runner(new WarmUpProperties(true, 2, Duration.ofMinutes(1), false));
+
+    // when
+    runner.onApplicationEvent(mock(ApplicationReadyEvent.class));
+
+    // then
+    verify(rdf4LdService, timeout(5000).times(2)).mapBibframe2RdfToLd(any(), eq("application/ld+json"));
+  }
+
+  @Test
+  void onApplicationEvent_shouldStopWarmUp_whenTimeBudgetIsSpent() {
+    // given
+    var runner = runner(new WarmUpProperties(true, 1000, Duration.ZERO, true));
+
+    // when
+    runner.onApplicationEvent(mock(ApplicationReadyEvent.class));
+
+    // then
+    verify(rdf4LdService, times(0)).mapBibframe2RdfToLd(any(), any());
+  }
+
+  @Test
+  void onApplicationEvent_shouldNotFail_whenMappingFails() {
+    // given
+    when(rdf4LdService.mapBibframe2RdfToLd(any(), any())).thenThrow(new IllegalArgumentException("broken"));
+    var runner = runner(new WarmUpProperties(true, 3, Duration.ofMinutes(1), true));
+
+    // then
+    assertThatCode(() -> runner.onApplicationEvent(mock(ApplicationReadyEvent.class))).doesNotThrowAnyException();
+  }
+
+  private WarmUpRunner runner(WarmUpProperties properties) {
+    return new WarmUpRunner(rdf4LdService, properties);
+  }
+}
@@ -4,6 +4,8 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
+import static org.eclipse.rdf4j.model.util.Values.iri;
+import static org.folio.ld.dictionary.PredicateDictionary.INSTANTIATES;
 import static org.folio.ld.dictionary.PredicateDictionary.TITLE;
 import static org.folio.ld.dictionary.PropertyDictionary.DATE;
 import static org.folio.ld.dictionary.PropertyDictionary.LABEL;
@@ -16,12 +18,15 @@ import static org.folio.ld.dictionary.PropertyDictionary.PART_NAME;
 import static org.folio.ld.dictionary.PropertyDictionary.PART_NUMBER;
 import static org.folio.ld.dictionary.PropertyDictionary.SUBTITLE;
 import static org.folio.ld.dictionary.PropertyDictionary.VARIANT_TYPE;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.INSTANCE;
 import static org.folio.ld.dictionary.ResourceTypeDictionary.MOCKED_RESOURCE;
 import static org.folio.ld.dictionary.ResourceTypeDictionary.PARALLEL_TITLE;
 import static org.folio.ld.dictionary.ResourceTypeDictionary.VARIANT_TITLE;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.WORK;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -31,6 +36,7 @@ import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.util.ModelBuilder;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
 import org.eclipse.rdf4j.rio.RDFFormat;
 import org.eclipse.rdf4j.rio.Rio;
 import org.folio.ld.dictionary.PredicateDictionary;
@@ -38,12 +44,16 @@ import org.folio.ld.dictionary.PropertyDictionary;
 import org.folio.ld.dictionary.ResourceTypeDictionary;
 import org.folio.ld.dictionary.model.Resource;
 import org.folio.ld.dictionary.model.ResourceEdge;
+import org.folio.rdf4ld.mapper.context.MappingContext;
+import org.folio.rdf4ld.mapper.plan.ResourceMappingPlan;
 import org.folio.rdf4ld.mapper.unit.RdfMapperUnit;
-import org.folio.rdf4ld.model.ResourceMapping;
 import tools.jackson.databind.JsonNode;
 
 @UtilityClass
 public class TestUtil {
+  private static final String BASE_LINK = "http://test-tobe-changed.folio.com/resources/";
+  private static final String BF = "http://id.loc.gov/ontologies/bibframe/";
+
 
   public static void validateProperty(JsonNode doc, String property, List<String> expected) {
     assertThat(doc.has(property)).isTrue();
@@ -104,8 +114,8 @@ public class TestUtil {
   public static RdfMapperUnit emptyMapper() {
     return new RdfMapperUnit() {
       @Override
-      public Optional<Resource> mapToLd(Model model, org.eclipse.rdf4j.model.Resource resource,
-                                        ResourceMapping resourceMapping,
+      public Optional<Resource> mapToLd(MappingContext context, org.eclipse.rdf4j.model.Resource resource,
+                                        ResourceMappingPlan plan,
                                         Resource parent) {
         return Optional.of(new Resource());
       }
@@ -113,7 +123,7 @@ public class TestUtil {
       @Override
       public void mapToBibframe(Resource resource,
                                 ModelBuilder modelBuilder,
-                                ResourceMapping resourceMapping,
+                                ResourceMappingPlan plan,
                                 Resource parent) {
         modelBuilder.add("http://test_subject.com", "http://test_predicate.com", "test_object");
       }
@@ -206,4 +216,49 @@ public class TestUtil {
       }
     );
   }
+
+  /**
+   * Bibframe 2.0 graph of the given number of Instances, all of them instances of a single Work.
+   */
+  public static Model instancesOfOneWork(int instances) {
+    var builder = new ModelBuilder()
+      .subject(BASE_LINK + "WORK_ID")
+      .add(RDF.TYPE, iri(BF + "Work"))
+      .add(RDF.TYPE, iri(BF + "Monograph"))
+      .add(BF + "title", iri(BASE_LINK + "WORK_TITLE_ID"))
+      .subject(BASE_LINK + "WORK_TITLE_ID")
+      .add(RDF.TYPE, iri(BF + "Title"))
+      .add(BF + "mainTitle", "Work Title");
+    for (var i = 0; i < instances; i++) {
+      builder.subject(BASE_LINK + "INSTANCE_" + i + "_ID")
+        .add(RDF.TYPE, iri(BF + "Instance"))
+        .add(BF + "title", iri(BASE_LINK + "INSTANCE_" + i + "_TITLE_ID"))
+        .add(BF + "instanceOf", iri(BASE_LINK + "WORK_ID"))
+        .subject(BASE_LINK + "INSTANCE_" + i + "_TITLE_ID")
+        .add(RDF.TYPE, iri(BF + "Title"))
+        .add(BF + "mainTitle", "Instance" + i + " Title");
+    }
+    return builder.build();
+  }
+
+  /**
+   * Top resources of the given number of Instance and Work pairs, every Instance linked to its Work either as an
+   * outgoing edge of the Instance or as an incoming edge of the Work.
+   */
+  public static Set<Resource> instanceWorkPairs(int pairs) {
+    var all = new HashSet<Resource>();
+    for (var i = 0; i < pairs; i++) {
+      var instance = new Resource().setId(2L * i).addType(INSTANCE);
+      var work = new Resource().setId(2L * i + 1).addType(WORK);
+      var edge = new ResourceEdge(instance, work, INSTANTIATES);
+      if (i % 2 == 0) {
+        instance.addOutgoingEdge(edge);
+      } else {
+        work.getIncomingEdges().add(edge);
+      }
+      all.add(instance);
+      all.add(work);
+    }
+    return all;
+  }
 }
@@ -0,0 +1,55 @@
+package org.folio.rdf4ld.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.rdf4ld.util.JsonUtil.getJsonMapper;
+import static org.folio.rdf4ld.util.MappingProfileReader.BASE_PATH;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+import org.folio.rdf4ld.model.ResourceMapping;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.ClassPathResource;
+
+@UnitTest
+class Bibframe20MappingsTest {
+
+  @ParameterizedTest(name = "[{index}] {0}")
+  @MethodSource("fileNames")
+  void get_shouldBuildSameMappingAsJsonFile(String fileName) throws IOException {
+    // given
+    var resource = new ClassPathResource(BASE_PATH + fileName);
+    var expected = getJsonMapper().readValue(resource.getInputStream(), ResourceMapping.class);
+
+    // when
+    var result = Bibframe20Mappings.get(fileName);
+
+    // then
+    assertThat(result).contains(expected);
+  }
+
+  @Test
+  void get_shouldReturnNewInstanceOnEachCall() {
+    // when
+    var first = Bibframe20Mappings.get(MappingProfileReader.INSTANCE);
+    var second = Bibframe20Mappings.get(MappingProfileReader.INSTANCE);
+
+    // then
+    assertThat(first).isPresent();
+    assertThat(second).isPresent();
+    assertThat(first.get()).isNotSameAs(second.get()).isEqualTo(second.get());
+  }
+
+  @Test
+  void get_shouldReturnEmptyForUnknownFile() {
+    // expect
+    assertThat(Bibframe20Mappings.get("unknown.json")).isEmpty();
+  }
+
+  private static Stream<String> fileNames() {
+    return Bibframe20Mappings.FILE_NAMES.stream();
+  }
+
+}
@@ -1,7 +1,10 @@
 package org.folio.rdf4ld.util;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
+import org.folio.rdf4ld.model.PropertyMapping;
+import org.folio.rdf4ld.model.ResourceMapping;
 import org.folio.spring.testing.type.UnitTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,4 +29,60 @@ class MappingProfileReaderTest {
     assertThat(result.getTopResourceMappings()).hasSize(3); // Instance, Hub, Work
   }
 
+  @Test
+  void getBibframe20Profile_shouldReturnSameInstanceOnRepeatedCalls() {
+    // when
+    var first = mappingProfileReader.getBibframe20Profile();
+    var second = mappingProfileReader.getBibframe20Profile();
+
+    // then
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void reloadBibframe20Profile_shouldReplaceSharedInstance() {
+    // given
+    var initial = mappingProfileReader.getBibframe20Profile();
+
+    // when
+    var reloaded = mappingProfileReader.reloadBibframe20Profile();
+
+    // then
+    assertThat(reloaded).isNotSameAs(initial).isEqualTo(initial);
+    assertThat(mappingProfileReader.getBibframe20Profile()).isSameAs(reloaded);
+  }
+
+  @Test
+  void getBibframe20Profile_shouldShareSubMappingsBetweenParents() {
+    // when
+    var tops = mappingProfileReader.getBibframe20Profile().getTopResourceMappings();
+
+    // then
+    var instance = tops.get(0).getResourceMapping();
+    var hub = tops.get(1).getResourceMapping();
+    var topWork = tops.get(2).getResourceMapping();
+    var instanceWork = instance.getOutgoingEdges().getLast().getResourceMapping();
+    var instanceTitle = instance.getOutgoingEdges().getFirst();
+    assertThat(instanceWork.getOutgoingEdges()).first().isSameAs(instanceTitle);
+    assertThat(hub.getOutgoingEdges()).first().isSameAs(instanceTitle);
+    assertThat(topWork.getOutgoingEdges()).isSameAs(instanceWork.getOutgoingEdges());
+    assertThat(topWork.getIncomingEdges()).last().isSameAs(tops.get(0));
+    assertThat(instanceWork.getIncomingEdges()).doesNotContain(tops.get(0));
+  }
+
+  @Test
+  void getBibframe20Profile_shouldReturnFrozenProfile() {
+    // given
+    var profile = mappingProfileReader.getBibframe20Profile();
+    var instance = profile.getTopResourceMappings().getFirst().getResourceMapping();
+
+    // then
+    assertThatThrownBy(() -> profile.addTopResourceMappingsItem(new ResourceMapping()))
+      .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> instance.addOutgoingEdgesItem(new ResourceMapping()))
+      .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> instance.addPropertiesItem(new PropertyMapping()))
+      .isInstanceOf(UnsupportedOperationException.class);
+  }
+
 }
@@ -0,0 +1,92 @@
+package org.folio.rdf4ld.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.TITLE;
+import static org.folio.ld.dictionary.ResourceTypeDictionary.WORK;
+
+import java.util.ArrayList;
+import org.folio.ld.dictionary.ResourceTypeDictionary;
+import org.folio.rdf4ld.model.BfResourceDef;
+import org.folio.rdf4ld.model.LdResourceDef;
+import org.folio.rdf4ld.model.MappingProfile;
+import org.folio.rdf4ld.model.PropertyMapping;
+import org.folio.rdf4ld.model.ResourceInternalMapping;
+import org.folio.rdf4ld.model.ResourceMapping;
+import org.folio.spring.testing.type.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class MappingProfileUtilTest {
+
+  @Test
+  void freeze_shouldMakeAllListsUnmodifiable() {
+    // given
+    var title = mapping(TITLE);
+    var work = mapping(WORK);
+    work.getResourceMapping()
+      .addOutgoingEdgesItem(title)
+      .addPropertiesItem(new PropertyMapping().edgeParentBfDef(new BfResourceDef().addTypeSetItem("parent")));
+    var profile = new MappingProfile().addTopResourceMappingsItem(work);
+
+    // when
+    var result = MappingProfileUtil.freeze(profile);
+
+    // then
+    assertThat(result).isSameAs(profile);
+    assertThatThrownBy(() -> profile.addTopResourceMappingsItem(new ResourceMapping()))
+      .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> work.getResourceMapping().addOutgoingEdgesItem(new ResourceMapping()))
+      .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> title.getLdResourceDef().addTypeSetItem(WORK))
+      .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> work.getResourceMapping().getProperties().getFirst().getEdgeParentBfDef()
+      .addTypeSetItem("other")).isInstanceOf(UnsupportedOperationException.class);
+    assertThat(work.getResourceMapping().getOutgoingEdges()).containsExactly(title);
+  }
+
+  @Test
+  void freeze_shouldKeepSharedListsShared_andSupportLoops() {
+    // given
+    var work = mapping(WORK);
+    var title = mapping(TITLE);
+    var sharedEdges = new ArrayList<ResourceMapping>();
+    sharedEdges.add(title);
+    sharedEdges.add(work);
+    work.getResourceMapping().setOutgoingEdges(sharedEdges);
+    var topWork = new ResourceMapping()
+      .ldResourceDef(work.getLdResourceDef())
+      .resourceMapping(new ResourceInternalMapping().outgoingEdges(sharedEdges));
+    var profile = new MappingProfile().addTopResourceMappingsItem(topWork).addTopResourceMappingsItem(work);
+
+    // when
+    MappingProfileUtil.freeze(profile);
+
+    // then
+    assertThat(topWork.getResourceMapping().getOutgoingEdges())
+      .isSameAs(work.getResourceMapping().getOutgoingEdges())
+      .containsExactly(title, work);
+  }
+
+  @Test
+  void freeze_shouldReplaceMissingListsWithEmptyOnes() {
+    // given
+    var mapping = new ResourceMapping()
+      .ldResourceDef(new LdResourceDef().typeSet(null))
+      .resourceMapping(new ResourceInternalMapping().incomingEdges(null));
+    var profile = new MappingProfile().addTopResourceMappingsItem(mapping);
+
+    // when
+    MappingProfileUtil.freeze(profile);
+
+    // then
+    assertThat(mapping.getLdResourceDef().getTypeSet()).isEmpty();
+    assertThat(mapping.getResourceMapping().getIncomingEdges()).isEmpty();
+  }
+
+  private ResourceMapping mapping(ResourceTypeDictionary type) {
+    return new ResourceMapping()
+      .ldResourceDef(new LdResourceDef().addTypeSetItem(type))
+      .resourceMapping(new ResourceInternalMapping());
+  }
+}